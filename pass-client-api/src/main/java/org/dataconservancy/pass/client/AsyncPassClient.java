@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.dataconservancy.pass.model.PassEntity;
+
+/**
+ * Non-blocking interface for interactions with PASS database.
+ * <p>
+ * Each method mirrors its counterpart in {@link PassClient}, but returns immediately with a {@link CompletableFuture}
+ * rather than waiting for the round trip to the repository or index. The future completes with the same result, or
+ * completes exceptionally with the exception the blocking method would have thrown. Invalid arguments are rejected
+ * immediately with an {@link IllegalArgumentException}, as they are by {@link PassClient}.
+ * </p>
+ * <p>
+ * Callbacks attached to the returned futures with non-async methods such as {@code thenApply} may run on the thread
+ * that performed the request, so long-running work should be handed to an executor of the caller's choosing.
+ * </p>
+ * <p>
+ * Cancelling the future returned for a create, update, delete or upload cancels its request, although the repository
+ * may already have made the change. Reads of a resource may be shared by several callers, so cancelling the future
+ * returned for a read only stops the caller waiting for it.
+ * </p>
+ */
+public interface AsyncPassClient {
+
+    /**
+     * @param modelObj The entity to be created
+     * @return future URI of new record
+     * @see PassClient#createResource(PassEntity)
+     */
+    public CompletableFuture<URI> createResourceAsync(PassEntity modelObj);
+
+    /**
+     * @param modelObj   the object to be created.
+     * @param modelClass The class of PASS entity.
+     * @param <T>        PASS entity type
+     * @return future updated version of the resource
+     * @see PassClient#createAndReadResource(PassEntity, Class)
+     */
+    public <T extends PassEntity> CompletableFuture<T> createAndReadResourceAsync(T modelObj, Class<T> modelClass);
+
+    /**
+     * @param modelObj The object to be updated
+     * @return future that completes when the update is done
+     * @see PassClient#updateResource(PassEntity)
+     */
+    public CompletableFuture<Void> updateResourceAsync(PassEntity modelObj);
+
+    /**
+     * @param modelObj   The entity to be updated
+     * @param modelClass The class of the PASS entity.
+     * @param <T>        PASS entity type
+     * @return future updated version of the resource
+     * @see PassClient#updateAndReadResource(PassEntity, Class)
+     */
+    public <T extends PassEntity> CompletableFuture<T> updateAndReadResourceAsync(T modelObj, Class<T> modelClass);
+
+    /**
+     * @param uri the URI of the resource to be deleted.
+     * @return future that completes when the resource is deleted
+     * @see PassClient#deleteResource(URI)
+     */
+    public CompletableFuture<Void> deleteResourceAsync(URI uri);
+
+    /**
+     * @param uri        The URI of the resource to be read.
+     * @param modelClass The class of PASS entity.
+     * @param <T>        PASS entity type
+     * @return future pass entity.
+     * @see PassClient#readResource(URI, Class)
+     */
+    public <T extends PassEntity> CompletableFuture<T> readResourceAsync(URI uri, Class<T> modelClass);
+
+    /**
+     * @param modelClass The PASS entity class.
+     * @param attribute  JSON attribute name.
+     * @param value      value of the attribute.
+     * @param <T>        PASS entity type
+     * @return future matching PASS entity URI, which may be {@code null}
+     * @see PassClient#findByAttribute(Class, String, Object)
+     */
+    public <T extends PassEntity> CompletableFuture<URI> findByAttributeAsync(Class<T> modelClass, String attribute,
+                                                                            Object value);
+
+    /**
+     * @param modelClass The class of PASS entity.
+     * @param attribute  JSON attribute name.
+     * @param value      The value of the PASS attribute.
+     * @param <T>        PASS entity type
+     * @return future Set of all matching PASS entity URIs.
+     * @see PassClient#findAllByAttribute(Class, String, Object)
+     */
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributeAsync(Class<T> modelClass,
+                                                                                    String attribute, Object value);
+
+    /**
+     * @param modelClass The class of PASS entity.
+     * @param attribute  JSON attribute name.
+     * @param value      The value of the PASS attribute.
+     * @param limit      Maximum number of results.
+     * @param offset     Result offset.
+     * @param <T>        PASS entity type
+     * @return future Set of all matching PASS entity URIs.
+     * @see PassClient#findAllByAttribute(Class, String, Object, int, int)
+     */
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributeAsync(Class<T> modelClass,
+                                                                                    String attribute, Object value,
+                                                                                    int limit, int offset);
+
+    /**
+     * @param modelClass         The class of PASS entity.
+     * @param attributeValuesMap Map of JSON attributes to values.
+     * @param <T>                PASS entity type
+     * @return future Set of all matching PASS entity URIs.
+     * @see PassClient#findAllByAttributes(Class, Map)
+     */
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributesAsync(Class<T> modelClass,
+                                                                                     Map<String, Object>
+                                                                                         attributeValuesMap);
+
+    /**
+     * @param modelClass         The class of PASS entity.
+     * @param attributeValuesMap Map of JSON attribute name to values.
+     * @param limit              Maximum number of results.
+     * @param offset             Result offset.
+     * @param <T>                PASS entity type
+     * @return future Set of all matching PASS entity URIs.
+     * @see PassClient#findAllByAttributes(Class, Map, int, int)
+     */
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributesAsync(Class<T> modelClass,
+                                                                                     Map<String, Object>
+                                                                                         attributeValuesMap,
+                                                                                     int limit, int offset);
+
+    /**
+     * @param passEntity the URI of a repository resource
+     * @return future {@code Map} keyed by predicate, may be empty but never {@code null}
+     * @see PassClient#getIncoming(URI)
+     */
+    public CompletableFuture<Map<String, Collection<URI>>> getIncomingAsync(URI passEntity);
+
+    /**
+     * @param entityUri a URI identifying an existing resource in the repository
+     * @param content   the content to {@code POST} to the resource
+     * @return future {@code URI} used to retrieve the uploaded content
+     * @see PassClient#upload(URI, InputStream)
+     */
+    public CompletableFuture<URI> uploadAsync(URI entityUri, InputStream content);
+
+    /**
+     * The {@code content} is read on the thread performing the request, so must not be closed until the returned
+     * future completes.
+     *
+     * @param entityUri an existing entity in the repository
+     * @param content   the content to {@code POST} to the entity
+     * @param params    optional parameters to the {@code POST}, <em>i.e.</em> HTTP header values
+     * @return future {@code URI} used to retrieve the uploaded content
+     * @see PassClient#upload(URI, InputStream, Map)
+     */
+    public CompletableFuture<URI> uploadAsync(URI entityUri, InputStream content, Map<String, ?> params);
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client;
+
+import org.dataconservancy.pass.model.PassEntity;
+
+/**
+ * A lookup of the single PASS entity of a class with a given attribute value, as performed by
+ * {@link PassClient#findByAttribute(Class, String, Object)}. Used to perform many lookups together with
+ * {@link PassClient#findEachByAttribute(java.util.List)}.
+ */
+public class AttributeQuery {
+
+    private final Class<? extends PassEntity> modelClass;
+
+    private final String attribute;
+
+    private final Object value;
+
+    private AttributeQuery(Class<? extends PassEntity> modelClass, String attribute, Object value) {
+        this.modelClass = modelClass;
+        this.attribute = attribute;
+        this.value = value;
+    }
+
+    /**
+     * Query for the entity of the class provided with the attribute value provided
+     *
+     * @param modelClass The class of PASS entity.
+     * @param attribute  The name of the JSON attribute to search on.
+     * @param value      The value of the attribute, or null to match entities without the attribute.
+     * @return the query
+     */
+    public static AttributeQuery of(Class<? extends PassEntity> modelClass, String attribute, Object value) {
+        return new AttributeQuery(modelClass, attribute, value);
+    }
+
+    /**
+     * The class of PASS entity to find
+     *
+     * @return model class
+     */
+    public Class<? extends PassEntity> getModelClass() {
+        return modelClass;
+    }
+
+    /**
+     * The name of the attribute to search on
+     *
+     * @return attribute name
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * The value of the attribute to match
+     *
+     * @return value, may be null
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeQuery [" + (modelClass != null ? modelClass.getSimpleName() : null) + " with " + attribute +
+               " = " + value + "]";
+    }
+}
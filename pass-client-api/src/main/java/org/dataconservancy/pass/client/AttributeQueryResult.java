@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client;
+
+import java.net.URI;
+
+/**
+ * The outcome of one {@link AttributeQuery}: either the URI found, which is null if nothing matched, or the error
+ * that prevented the lookup, such as the query matching more than one entity.
+ */
+public class AttributeQueryResult {
+
+    private final AttributeQuery query;
+
+    private final URI uri;
+
+    private final Throwable error;
+
+    private AttributeQueryResult(AttributeQuery query, URI uri, Throwable error) {
+        this.query = query;
+        this.uri = uri;
+        this.error = error;
+    }
+
+    /**
+     * Result of a lookup that succeeded
+     *
+     * @param query the query
+     * @param uri   the URI found, or null if nothing matched
+     * @return successful result
+     */
+    public static AttributeQueryResult success(AttributeQuery query, URI uri) {
+        return new AttributeQueryResult(query, uri, null);
+    }
+
+    /**
+     * Result of a lookup that failed
+     *
+     * @param query the query
+     * @param error the reason for the failure
+     * @return failed result
+     */
+    public static AttributeQueryResult failure(AttributeQuery query, Throwable error) {
+        if (error == null) {
+            throw new IllegalArgumentException("error cannot be null");
+        }
+        return new AttributeQueryResult(query, null, error);
+    }
+
+    /**
+     * The query that was performed
+     *
+     * @return the query
+     */
+    public AttributeQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * The URI of the entity found
+     *
+     * @return the URI, or null if nothing matched or the lookup failed
+     */
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * The reason the lookup failed
+     *
+     * @return the error, or null if the lookup succeeded
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Whether the lookup succeeded
+     *
+     * @return true if the lookup succeeded
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "AttributeQueryResult [uri=" + uri + "]" : "AttributeQueryResult [error=" + error + "]";
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+
+import org.dataconservancy.pass.model.PassEntity;
+
+/**
+ * This exception is thrown when one or more resources in a batch read could not be read. It is only thrown once every
+ * resource in the batch has been attempted, and carries both the resources that were read successfully and the
+ * failure for each resource that was not.
+ */
+public class BatchReadException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<URI, ? extends PassEntity> results;
+
+    private final transient Map<URI, Throwable> failures;
+
+    /**
+     * Constructor with message, the resources that were read, and the failures. The first failure, if any, is used
+     * as the cause.
+     *
+     * @param s        message
+     * @param results  resources that were read successfully, by URI
+     * @param failures failures, by URI
+     */
+    public BatchReadException(String s, Map<URI, ? extends PassEntity> results, Map<URI, Throwable> failures) {
+        super(s, failures.isEmpty() ? null : failures.values().iterator().next());
+        this.results = Collections.unmodifiableMap(results);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Resources that were read successfully, by URI
+     *
+     * @return map of URI to resource
+     */
+    public Map<URI, ? extends PassEntity> getResults() {
+        return results;
+    }
+
+    /**
+     * The failure for each resource that could not be read, by URI
+     *
+     * @return map of URI to failure
+     */
+    public Map<URI, Throwable> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client;
+
+import org.dataconservancy.pass.model.PassEntity;
+
+/**
+ * The outcome of a batch operation for one {@link PassEntity}: either a value, or the error that prevented the
+ * operation from completing. The entity that was submitted is retained so that failed items can be retried.
+ *
+ * @param <V> type of value produced on success
+ */
+public class BatchResult<V> {
+
+    private final PassEntity entity;
+
+    private final V value;
+
+    private final Throwable error;
+
+    private BatchResult(PassEntity entity, V value, Throwable error) {
+        this.entity = entity;
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * Result of an operation that succeeded
+     *
+     * @param entity the entity submitted
+     * @param value  the value produced
+     * @param <V>    type of value
+     * @return successful result
+     */
+    public static <V> BatchResult<V> success(PassEntity entity, V value) {
+        return new BatchResult<V>(entity, value, null);
+    }
+
+    /**
+     * Result of an operation that failed
+     *
+     * @param entity the entity submitted
+     * @param error  the reason for the failure
+     * @param <V>    type of value
+     * @return failed result
+     */
+    public static <V> BatchResult<V> failure(PassEntity entity, Throwable error) {
+        if (error == null) {
+            throw new IllegalArgumentException("error cannot be null");
+        }
+        return new BatchResult<V>(entity, null, error);
+    }
+
+    /**
+     * The entity that was submitted
+     *
+     * @return the entity
+     */
+    public PassEntity getEntity() {
+        return entity;
+    }
+
+    /**
+     * The value produced, if the operation succeeded
+     *
+     * @return the value, or null if the operation failed
+     */
+    public V getValue() {
+        return value;
+    }
+
+    /**
+     * The reason the operation failed
+     *
+     * @return the error, or null if the operation succeeded
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Whether the operation succeeded
+     *
+     * @return true if the operation succeeded
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "BatchResult [value=" + value + "]" : "BatchResult [error=" + error + "]";
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a batch update. Each resource in the batch appears in exactly one of: the resources updated, the
+ * resources that were not updated because they had changed since they were last read (a conflict), or the resources
+ * that could not be updated for any other reason.
+ */
+public class BatchUpdateResult {
+
+    private final List<URI> succeeded;
+
+    private final Map<URI, String> conflicts;
+
+    private final Map<URI, Throwable> failures;
+
+    /**
+     * Constructor with the outcome for each resource
+     *
+     * @param succeeded resources updated
+     * @param conflicts current version tag of each resource that had changed since it was last read
+     * @param failures  failure for each resource that could not be updated for any other reason
+     */
+    public BatchUpdateResult(List<URI> succeeded, Map<URI, String> conflicts, Map<URI, Throwable> failures) {
+        this.succeeded = Collections.unmodifiableList(succeeded);
+        this.conflicts = Collections.unmodifiableMap(conflicts);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Resources that were updated, in the order they were provided
+     *
+     * @return URIs of resources updated
+     */
+    public List<URI> getSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * Resources that were not updated because their {@code versionTag} no longer matched the repository. Each maps to
+     * the version tag currently in the repository, or {@code null} if it could not be determined; resources can be
+     * re-read, merged, and updated again.
+     *
+     * @return current version tag, by URI
+     */
+    public Map<URI, String> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Resources that could not be updated for any reason other than a conflict
+     *
+     * @return failure, by URI
+     */
+    public Map<URI, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Whether every resource was updated
+     *
+     * @return true if there were no conflicts or failures
+     */
+    public boolean isSuccess() {
+        return conflicts.isEmpty() && failures.isEmpty();
+    }
+}
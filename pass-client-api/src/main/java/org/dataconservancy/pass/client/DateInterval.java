@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client;
+
+/**
+ * Calendar interval used to group PASS entities by a date attribute, as by
+ * {@link PassIndexClient#countByDate(Class, java.util.Map, String, DateInterval)}. Intervals start at midnight UTC;
+ * weeks start on a Monday.
+ */
+public enum DateInterval {
+    DAY,
+    WEEK,
+    MONTH,
+    QUARTER,
+    YEAR
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Conditions that PASS entities must all meet to be found by
+ * {@link PassIndexClient#findAllByCriteria(Class, IndexCriteria)}. As well as exact matches, as for
+ * {@link PassClient#findAllByAttributes(Class, java.util.Map)}, an attribute can be compared with a value, e.g. to find
+ * Submissions submitted since a given time:
+ *
+ * <pre>
+ * IndexCriteria criteria = new IndexCriteria()
+ *     .equalTo("submissionStatus", "submitted")
+ *     .greaterThanOrEqualTo("submittedDate", since);
+ * </pre>
+ * <p>
+ * Results can be sorted by one or more attributes, e.g. to process Submissions in the order they were submitted.
+ * When results are retrieved a page at a time with a limit and offset, they are finally sorted by URI, so that the
+ * order is stable and the pages neither skip nor repeat results.
+ * </p>
+ * <p>
+ * Comparisons are intended for date attributes, e.g. {@code Submission.submittedDate} or {@code Grant.endDate}, given
+ * as Joda {@code DateTime} values, and for numeric attributes. Dates are compared in UTC, to the millisecond.
+ * </p>
+ */
+public class IndexCriteria {
+
+    /**
+     * Comparison of an attribute with a value
+     */
+    public enum Operator {
+        EQUAL_TO,
+        GREATER_THAN,
+        GREATER_THAN_OR_EQUAL_TO,
+        LESS_THAN,
+        LESS_THAN_OR_EQUAL_TO
+    }
+
+    /**
+     * A single condition on an attribute
+     */
+    public static class Criterion {
+
+        private final String attribute;
+
+        private final Operator operator;
+
+        private final Object value;
+
+        private Criterion(String attribute, Operator operator, Object value) {
+            this.attribute = attribute;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        /**
+         * The JSON attribute the condition applies to
+         *
+         * @return attribute name
+         */
+        public String getAttribute() {
+            return attribute;
+        }
+
+        /**
+         * How the attribute is compared with the value
+         *
+         * @return operator
+         */
+        public Operator getOperator() {
+            return operator;
+        }
+
+        /**
+         * The value the attribute is compared with
+         *
+         * @return value, which is null only for an {@link Operator#EQUAL_TO} condition on a missing attribute
+         */
+        public Object getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * Order of results by an attribute
+     */
+    public static class Sort {
+
+        private final String attribute;
+
+        private final boolean ascending;
+
+        private Sort(String attribute, boolean ascending) {
+            this.attribute = attribute;
+            this.ascending = ascending;
+        }
+
+        /**
+         * The JSON attribute to sort by
+         *
+         * @return attribute name
+         */
+        public String getAttribute() {
+            return attribute;
+        }
+
+        /**
+         * Whether results are sorted in ascending order
+         *
+         * @return true for ascending, false for descending
+         */
+        public boolean isAscending() {
+            return ascending;
+        }
+    }
+
+    private final List<Criterion> criteria = new ArrayList<>();
+
+    private final List<Sort> sorts = new ArrayList<>();
+
+    /**
+     * The attribute must have the value provided
+     *
+     * @param attribute The name of the JSON attribute.
+     * @param value     The value of the attribute, or null to match entities without the attribute.
+     * @return this criteria
+     */
+    public IndexCriteria equalTo(String attribute, Object value) {
+        return add(attribute, Operator.EQUAL_TO, value);
+    }
+
+    /**
+     * The attribute must be later than, or greater than, the value provided
+     *
+     * @param attribute The name of the JSON attribute.
+     * @param value     The value to compare with.
+     * @return this criteria
+     */
+    public IndexCriteria greaterThan(String attribute, Object value) {
+        return add(attribute, Operator.GREATER_THAN, value);
+    }
+
+    /**
+     * The attribute must be at or later than, or greater than or equal to, the value provided
+     *
+     * @param attribute The name of the JSON attribute.
+     * @param value     The value to compare with.
+     * @return this criteria
+     */
+    public IndexCriteria greaterThanOrEqualTo(String attribute, Object value) {
+        return add(attribute, Operator.GREATER_THAN_OR_EQUAL_TO, value);
+    }
+
+    /**
+     * The attribute must be earlier than, or less than, the value provided
+     *
+     * @param attribute The name of the JSON attribute.
+     * @param value     The value to compare with.
+     * @return this criteria
+     */
+    public IndexCriteria lessThan(String attribute, Object value) {
+        return add(attribute, Operator.LESS_THAN, value);
+    }
+
+    /**
+     * The attribute must be at or earlier than, or less than or equal to, the value provided
+     *
+     * @param attribute The name of the JSON attribute.
+     * @param value     The value to compare with.
+     * @return this criteria
+     */
+    public IndexCriteria lessThanOrEqualTo(String attribute, Object value) {
+        return add(attribute, Operator.LESS_THAN_OR_EQUAL_TO, value);
+    }
+
+    /**
+     * Sort results by an attribute, after any attributes already sorted by. The attribute should have a single value
+     * for each entity, and be an exact-match attribute such as an identifier or status, a date, or a number.
+     *
+     * @param attribute The name of the JSON attribute, or @id to sort by URI.
+     * @param ascending True to sort in ascending order, false for descending.
+     * @return this criteria
+     */
+    public IndexCriteria sortBy(String attribute, boolean ascending) {
+        if (attribute == null || attribute.length() == 0) {
+            throw new IllegalArgumentException("attribute cannot be null or empty");
+        }
+        sorts.add(new Sort(attribute, ascending));
+        return this;
+    }
+
+    /**
+     * The attributes to sort by, in order of precedence
+     *
+     * @return unmodifiable list of sorts
+     */
+    public List<Sort> getSorts() {
+        return Collections.unmodifiableList(sorts);
+    }
+
+    /**
+     * The conditions, in the order they were added
+     *
+     * @return unmodifiable list of conditions
+     */
+    public List<Criterion> getCriteria() {
+        return Collections.unmodifiableList(criteria);
+    }
+
+    private IndexCriteria add(String attribute, Operator operator, Object value) {
+        if (attribute == null || attribute.length() == 0) {
+            throw new IllegalArgumentException("attribute cannot be null or empty");
+        }
+        if (value instanceof Collection<?>) {
+            throw new IllegalArgumentException("Value for attribute " + attribute + " cannot be a Collection");
+        }
+        if (value == null && operator != Operator.EQUAL_TO) {
+            throw new IllegalArgumentException("Value for attribute " + attribute + " cannot be null in a comparison");
+        }
+        criteria.add(new Criterion(attribute, operator, value));
+        return this;
+    }
+}
@@ -17,10 +17,18 @@ package org.dataconservancy.pass.client;
 
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.dataconservancy.pass.model.Deposit;
 import org.dataconservancy.pass.model.Grant;
@@ -28,6 +36,10 @@ import org.dataconservancy.pass.model.PassEntity;
 
 /**
  * Interface for interactions with PASS database
+ * <p>
+ * Batch, count and streaming methods have default implementations built on the single-entity methods, so that
+ * existing implementations keep working, albeit making one request at a time.
+ * </p>
  *
  * @author Karen Hanson
  */
@@ -56,6 +68,63 @@ public interface PassClient {
      */
     public <T extends PassEntity> T createAndReadResource(T modelObj, Class<T> modelClass);
 
+    /**
+     * Persists many {@link PassEntity}s at once, as per {@link #createResource(PassEntity)}. Several entities are
+     * created concurrently, so this is considerably faster than creating each in turn.
+     * <p>
+     * A failure to create one entity does not stop the others being created. Each entity has a corresponding
+     * {@link BatchResult}, in the same position in the returned list, holding either the URI of the new record or the
+     * error that prevented it being created.
+     * </p>
+     * <p>
+     * The default implementation creates each entity in turn.
+     * </p>
+     *
+     * @param modelObjs The entities to be created
+     * @return Result for each entity, in the order the entities were provided
+     */
+    public default List<BatchResult<URI>> createResources(List<? extends PassEntity> modelObjs) {
+        List<BatchResult<URI>> results = new ArrayList<>();
+        for (PassEntity modelObj : modelObjs) {
+            try {
+                results.add(BatchResult.success(modelObj, createResource(modelObj)));
+            } catch (RuntimeException e) {
+                results.add(BatchResult.failure(modelObj, e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Persists many {@link PassEntity}s at once, as per {@link #createAndReadResource(PassEntity, Class)}. Several
+     * entities are created concurrently, so this is considerably faster than creating each in turn.
+     * <p>
+     * A failure to create one entity does not stop the others being created. Each entity has a corresponding
+     * {@link BatchResult}, in the same position in the returned list, holding either an updated version of the
+     * resource or the error that prevented it being created.
+     * </p>
+     * <p>
+     * The default implementation creates each entity in turn.
+     * </p>
+     *
+     * @param modelObjs  The entities to be created
+     * @param modelClass The class of PASS entity.
+     * @param <T>        PASS entity type
+     * @return Result for each entity, in the order the entities were provided
+     */
+    public default <T extends PassEntity> List<BatchResult<T>> createAndReadResources(List<T> modelObjs,
+                                                                                      Class<T> modelClass) {
+        List<BatchResult<T>> results = new ArrayList<>();
+        for (T modelObj : modelObjs) {
+            try {
+                results.add(BatchResult.success(modelObj, createAndReadResource(modelObj, modelClass)));
+            } catch (RuntimeException e) {
+                results.add(BatchResult.failure(modelObj, e));
+            }
+        }
+        return results;
+    }
+
     /**
      * Takes any {@link PassEntity}, and updates the record matching the ID field.
      * Note that if you attempt to update an object that was updated between the {@code readResource} and the
@@ -67,6 +136,48 @@ public interface PassClient {
      */
     public void updateResource(PassEntity modelObj);
 
+    /**
+     * Updates many {@link PassEntity}s at once, as per {@link #updateResource(PassEntity)}. Several entities are
+     * updated concurrently, so this is considerably faster than updating each in turn. Each update is conditional on
+     * the entity's {@code versionTag}, if it has one.
+     * <p>
+     * A conflict or failure updating one entity does not stop the others being updated. The result reports which
+     * entities were updated, which had changed since they were read (along with their current version tag), and which
+     * failed for any other reason.
+     * </p>
+     * <p>
+     * As outcomes are reported by URI, no two entities given may have the same ID.
+     * </p>
+     * <p>
+     * The default implementation updates each entity in turn, and cannot tell conflicts from other failures, so reports
+     * them all as failures.
+     * </p>
+     *
+     * @param modelObjs The entities to be updated, each with an ID
+     * @return Outcome of the update for each entity
+     * @throws IllegalArgumentException if an entity has no ID, or more than one has the same ID
+     */
+    public default BatchUpdateResult updateResources(Collection<? extends PassEntity> modelObjs) {
+        Set<URI> ids = new HashSet<>();
+        for (PassEntity modelObj : modelObjs) {
+            if (modelObj == null || modelObj.getId() == null || !ids.add(modelObj.getId())) {
+                throw new IllegalArgumentException("modelObjs must each have an id, and no two the same");
+            }
+        }
+
+        List<URI> succeeded = new ArrayList<>();
+        Map<URI, Throwable> failures = new LinkedHashMap<>();
+        for (PassEntity modelObj : modelObjs) {
+            try {
+                updateResource(modelObj);
+                succeeded.add(modelObj.getId());
+            } catch (RuntimeException e) {
+                failures.put(modelObj.getId(), e);
+            }
+        }
+        return new BatchUpdateResult(succeeded, Collections.emptyMap(), failures);
+    }
+
     /**
      * Takes any {@link PassEntity}, and updates the record matching the ID field.
      * Note that if you attempt to update an object that was updated between the readResource and the
@@ -98,6 +209,46 @@ public interface PassClient {
      */
     public <T extends PassEntity> T readResource(URI uri, Class<T> modelClass);
 
+    /**
+     * Retrieves the entities matching the URIs provided, populating the appropriate Java class with their values.
+     * Several entities may be read at once, so this is considerably faster than calling
+     * {@link #readResource(URI, Class)} for each URI in turn.
+     * <p>
+     * A failure to read one entity does not stop the others being read. If any entity could not be read, a
+     * {@link BatchReadException} is thrown once the whole batch has been attempted, containing the entities that were
+     * read and the failure for each that was not.
+     * </p>
+     * <p>
+     * A URI given more than once is read once, and appears once in the result, so the result may have fewer entries
+     * than URIs given.
+     * </p>
+     * <p>
+     * The default implementation reads each entity in turn.
+     * </p>
+     *
+     * @param uris       The URIs of the resources to be read.
+     * @param modelClass The class of PASS entity.
+     * @param <T>        PASS entity type
+     * @return The pass entities, by URI, in the order the URIs were provided
+     * @throws BatchReadException if any of the resources could not be read
+     */
+    public default <T extends PassEntity> Map<URI, T> readResources(Collection<URI> uris, Class<T> modelClass) {
+        Map<URI, T> results = new LinkedHashMap<>();
+        Map<URI, Throwable> failures = new LinkedHashMap<>();
+        for (URI uri : new LinkedHashSet<>(uris)) {
+            try {
+                results.put(uri, readResource(uri, modelClass));
+            } catch (RuntimeException e) {
+                failures.put(uri, e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new BatchReadException(String.format("Failed to read %s of %s resources", failures.size(),
+                                                       failures.size() + results.size()), results, failures);
+        }
+        return results;
+    }
+
     /**
      * Retrieves URI for a SINGLE RECORD by matching the entity type and filtering by the field
      * specified using the value provided. For example, to find the {@link Grant} using the {@code awardNumber}:
@@ -141,7 +292,8 @@ public interface PassClient {
      *  }</pre>
      * <p>
      * By default this will return a maximum of 200 matching records, unless the pass.elasticsearch.limit
-     * environment variable is set. If there are no matches, it will return an empty list.
+     * environment variable is set. If there are no matches, it will return an empty list. Results are not sorted, but
+     * returned in the order the index finds them; use the overload with a limit and offset for results sorted by URI.
      * </p>
      * <p>
      * The value parameter will be converted to a String for the purpose of searching the index. The value parameter
@@ -172,7 +324,9 @@ public interface PassClient {
      * }</pre>
      * <p>
      * The number of records will be limited by limit provided, and the offset will be applied to the default
-     * sorting. If there are no matches, it will return an empty list. This will override the limit env variable
+     * sorting. If there are no matches, it will return an empty list. This will override the limit env variable.
+     * Results are sorted by URI, and returned in that order, so that paging through them with the offset neither
+     * skips nor repeats any.
      * </p>
      * <p>
      * The value parameter will be converted to a String for the purpose of searching the index. The value parameter
@@ -210,7 +364,8 @@ public interface PassClient {
      * }</pre>
      * <p>
      * By default this will return a maximum of 200 matching records, unless the pass.elasticsearch.limit
-     * environment variable is set. If there are no matches, it will return an empty list.
+     * environment variable is set. If there are no matches, it will return an empty list. Results are not sorted, but
+     * returned in the order the index finds them; use the overload with a limit and offset for results sorted by URI.
      * </p>
      * <p>
      * The Map "value" parameter will be converted to a String for the purpose of searching the index. The map's
@@ -245,7 +400,9 @@ public interface PassClient {
      * }</pre>
      * <p>
      * The number of records will be limited by limit provided, and the offset will be applied to the default
-     * sorting. If there are no matches, it will return an empty list. This will override the limit env variable
+     * sorting. If there are no matches, it will return an empty list. This will override the limit env variable.
+     * Results are sorted by URI, and returned in that order, so that paging through them with the offset neither
+     * skips nor repeats any.
      * </p>
      * <p>
      * The Map "value" parameter will be converted to a String for the purpose of searching the index. The map's
@@ -265,6 +422,223 @@ public interface PassClient {
                                                                Map<String, Object> attributeValuesMap, int limit,
                                                                int offset);
 
+    /**
+     * Perform many lookups, each as for {@link #findByAttribute(Class, String, Object)}, in a single request to the
+     * index. The lookups may be of different classes of PASS entity and different attributes, for example:
+     * <pre>
+     *   {@code
+     *   List<AttributeQueryResult> results = findEachByAttribute(Arrays.asList(
+     *       AttributeQuery.of(Journal.class, "issns", issn),
+     *       AttributeQuery.of(Publication.class, "doi", doi),
+     *       AttributeQuery.of(User.class, "locatorIds", locatorId)));
+     * }</pre>
+     * <p>
+     * A result is returned for each query, in the same order. A query that is invalid, fails in the index, or matches
+     * more than one entity has a failed result; the other queries are unaffected.
+     * </p>
+     * <p>
+     * The default implementation performs each lookup in turn.
+     * </p>
+     *
+     * @param queries The lookups to perform.
+     * @return The result of each lookup, in the order of the queries.
+     */
+    public default List<AttributeQueryResult> findEachByAttribute(List<AttributeQuery> queries) {
+        List<AttributeQueryResult> results = new ArrayList<>();
+        for (AttributeQuery query : queries) {
+            try {
+                results.add(AttributeQueryResult.success(query, findByAttribute(query.getModelClass(),
+                                                                                query.getAttribute(),
+                                                                                query.getValue())));
+            } catch (RuntimeException e) {
+                results.add(AttributeQueryResult.failure(query, e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Retrieve the URIs of PASS entities of the class provided whose attribute matches any of the values provided,
+     * grouped by value. This makes as few requests to the index as possible, so is much faster than calling
+     * {@link #findAllByAttribute(Class, String, Object)} for each value.
+     * <p>
+     * For example, to look up many Grants by their local key:
+     * </p>
+     * <pre>
+     *   {@code
+     *   Map<Object, Set<URI>> grants = findAllByAttributeIn(Grant.class, "localKey", localKeys);
+     * }</pre>
+     * <p>
+     * Every value provided is a key of the map returned, in the order the values were provided, with an empty set if
+     * nothing matched it. Values are converted to Strings for the purpose of searching the index, and must match the
+     * indexed value exactly. Values cannot be null or Collections. There is no limit on the number of results.
+     * </p>
+     * <p>
+     * The default implementation searches for each value in turn.
+     * </p>
+     *
+     * @param modelClass The class of PASS entity.
+     * @param attribute  The name of the JSON attribute to search on.
+     * @param values     The values of the attribute to match.
+     * @param <T>        PASS entity type
+     * @return Map of each value to the URIs of the PASS entities matching it.
+     */
+    public default <T extends PassEntity> Map<Object, Set<URI>> findAllByAttributeIn(Class<T> modelClass,
+                                                                                     String attribute,
+                                                                                     Collection<?> values) {
+        Map<Object, Set<URI>> results = new LinkedHashMap<>();
+        for (Object value : values) {
+            try (Stream<URI> uris = streamAllByAttributes(modelClass, Collections.singletonMap(attribute, value))) {
+                results.put(value, uris.collect(Collectors.toCollection(LinkedHashSet::new)));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Count the PASS entities of the class provided matching all of the attributes and values specified, as for
+     * {@link #findAllByAttributes(Class, Map)}. The count is made by the index without retrieving any of the matches,
+     * so this should be used instead of counting the results of a findAll function.
+     * <p>
+     * The default implementation retrieves and counts the URIs of the matches.
+     * </p>
+     *
+     * @param modelClass         The class of PASS entity.
+     * @param attributeValuesMap Map of JSON attribute name to values.
+     * @param <T>                PASS entity type
+     * @return The number of matching entities.
+     */
+    public default <T extends PassEntity> long countByAttributes(Class<T> modelClass,
+                                                                 Map<String, Object> attributeValuesMap) {
+        try (Stream<URI> uris = streamAllByAttributes(modelClass, attributeValuesMap)) {
+            return uris.count();
+        }
+    }
+
+    /**
+     * Check whether any PASS entity of the class provided matches all of the attributes and values specified, as for
+     * {@link #findAllByAttributes(Class, Map)}. The index stops searching once a match is found, and no matches are
+     * retrieved.
+     * <p>
+     * The default implementation retrieves the URI of at most one match.
+     * </p>
+     *
+     * @param modelClass         The class of PASS entity.
+     * @param attributeValuesMap Map of JSON attribute name to values.
+     * @param <T>                PASS entity type
+     * @return True if there is at least one matching entity.
+     */
+    public default <T extends PassEntity> boolean existsByAttributes(Class<T> modelClass,
+                                                                     Map<String, Object> attributeValuesMap) {
+        return !findAllByAttributes(modelClass, attributeValuesMap, 1, 0).isEmpty();
+    }
+
+    /**
+     * Retrieve the PASS entities of the class provided with the attribute value specified, as for
+     * {@link #findAllByAttribute(Class, String, Object)}, but reading the entities themselves from the index rather
+     * than returning their URIs. This takes a single request, rather than one request to find the URIs and another to
+     * read each entity from the repository.
+     * <p>
+     * The index may lag behind the repository, so the entities returned may be out of date. They are flagged as
+     * {@link PassEntity#isIndexSourced() index-sourced} and have no version tag, and cannot be passed to
+     * {@link #updateResource(PassEntity)} or the other update methods; read an entity from the repository to update
+     * it.
+     * </p>
+     * <p>
+     * The default implementation finds the URIs of the matches, then reads each entity from the repository, so they
+     * are current and can be updated.
+     * </p>
+     *
+     * @param modelClass The class of PASS entity.
+     * @param attribute  The name of the JSON attribute to search on.
+     * @param value      The value of the attribute.
+     * @param <T>        PASS entity type
+     * @return List of matching PASS entities, as held by the index.
+     */
+    public default <T extends PassEntity> List<T> findAllEntitiesByAttribute(Class<T> modelClass, String attribute,
+                                                                             Object value) {
+        return new ArrayList<>(readResources(findAllByAttribute(modelClass, attribute, value), modelClass).values());
+    }
+
+    /**
+     * Retrieve the PASS entities of the class provided matching all of the attributes and values specified, as for
+     * {@link #findAllByAttributes(Class, Map)}, but reading the entities themselves from the index. See
+     * {@link #findAllEntitiesByAttribute(Class, String, Object)} for the limitations of entities read from the index.
+     * <p>
+     * The default implementation reads each match from the repository, as for
+     * {@link #findAllEntitiesByAttribute(Class, String, Object)}.
+     * </p>
+     *
+     * @param modelClass         The class of PASS entity.
+     * @param attributeValuesMap Map of JSON attribute name to values.
+     * @param <T>                PASS entity type
+     * @return List of matching PASS entities, as held by the index.
+     */
+    public default <T extends PassEntity> List<T> findAllEntitiesByAttributes(Class<T> modelClass,
+                                                                              Map<String, Object> attributeValuesMap) {
+        return new ArrayList<>(readResources(findAllByAttributes(modelClass, attributeValuesMap), modelClass)
+                                   .values());
+    }
+
+    /**
+     * Retrieve the PASS entities of the class provided matching all of the attributes and values specified, as for
+     * {@link #findAllByAttributes(Class, Map, int, int)}, but reading the entities themselves from the index. See
+     * {@link #findAllEntitiesByAttribute(Class, String, Object)} for the limitations of entities read from the index.
+     * <p>
+     * The default implementation reads each match from the repository, as for
+     * {@link #findAllEntitiesByAttribute(Class, String, Object)}.
+     * </p>
+     *
+     * @param modelClass         The class of PASS entity.
+     * @param attributeValuesMap Map of JSON attribute name to values.
+     * @param limit              Maximum number of results.
+     * @param offset             Result offset.
+     * @param <T>                PASS entity type
+     * @return List of matching PASS entities, as held by the index.
+     */
+    public default <T extends PassEntity> List<T> findAllEntitiesByAttributes(Class<T> modelClass,
+                                                                              Map<String, Object> attributeValuesMap,
+                                                                              int limit, int offset) {
+        return new ArrayList<>(readResources(findAllByAttributes(modelClass, attributeValuesMap, limit, offset),
+                                             modelClass).values());
+    }
+
+    /**
+     * Retrieve the URIs of every PASS entity of the class provided matching all of the attributes and values
+     * specified, as for {@link #findAllByAttributes(Class, Map)}, but without a limit on the number of results.
+     * <p>
+     * Results are retrieved from the index a page at a time as the stream is consumed, so memory use does not grow
+     * with the number of matches, and later pages take no longer to retrieve than earlier ones. The size of each page
+     * is set by the pass.elasticsearch.scroll.size environment variable. Results are in no particular order.
+     * </p>
+     * <p>
+     * The stream holds a search open on the index until it is consumed or closed, so should be closed after use, e.g.
+     * </p>
+     * <pre>
+     *   {@code
+     *   try (Stream<URI> users = client.streamAllByAttributes(User.class, map)) {
+     *       users.forEach(uri -> ...);
+     *   }
+     * }</pre>
+     * <p>
+     * The default implementation pages through {@link #findAllByAttributes(Class, Map, int, int)} as the stream is
+     * consumed.
+     * </p>
+     *
+     * @param modelClass         The class of PASS entity.
+     * @param attributeValuesMap Map of JSON attribute name to values.
+     * @param <T>                PASS entity type
+     * @return Stream of all matching PASS entity URIs.
+     */
+    public default <T extends PassEntity> Stream<URI> streamAllByAttributes(Class<T> modelClass,
+                                                                            Map<String, Object> attributeValuesMap) {
+        int pageSize = 200;
+        return Stream.iterate(0, offset -> offset + pageSize)
+                     .map(offset -> findAllByAttributes(modelClass, attributeValuesMap, pageSize, offset))
+                     .takeWhile(page -> !page.isEmpty())
+                     .flatMap(Set::stream);
+    }
+
     /**
      * Retrieve inbound links to the repository resource identified by {@link PassEntity}.
      * <p>
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.stream.Stream;
+
+import org.dataconservancy.pass.model.PassEntity;
+import org.joda.time.DateTime;
+
+/**
+ * Searches and aggregations that are answered by the PASS index alone, with no counterpart in the repository.
+ * <p>
+ * Unlike the searches in {@link PassClient}, these cannot be built on the single-entity methods, so are kept apart
+ * from it and offered only by clients that have an index to query.
+ * </p>
+ */
+public interface PassIndexClient {
+
+    /**
+     * Count the PASS entities of the class provided by each value of an attribute, e.g. Submissions by
+     * submissionStatus. The counts are calculated by the index without retrieving any of the entities. Entities with
+     * a list of values for the attribute are counted once for each value.
+     * <p>
+     * Only exact-match (keyword) attributes, such as statuses, identifiers and URIs, can be counted; the index rejects
+     * an analyzed (full text) attribute such as a title or description. At most
+     * {@code pass.elasticsearch.aggregation.size} values are returned, those with the highest counts. If there are
+     * more, the rest are left out, and a warning is logged.
+     * </p>
+     *
+     * @param modelClass The class of PASS entity.
+     * @param filters    Map of JSON attribute name to values that entities must have to be counted; null or empty to
+     *                   count every entity of the class.
+     * @param attribute  The name of the JSON attribute to count values of.
+     * @param <T>        PASS entity type
+     * @return Map of each value, as a string, to the number of entities with it, in descending order of count.
+     */
+    public <T extends PassEntity> Map<String, Long> countByAttributeValue(Class<T> modelClass,
+                                                                          Map<String, Object> filters,
+                                                                          String attribute);
+
+    /**
+     * Count the PASS entities of the class provided by the interval in which a date attribute falls, e.g.
+     * Submissions by the month of their submittedDate. The counts are calculated by the index without retrieving any
+     * of the entities.
+     *
+     * @param modelClass    The class of PASS entity.
+     * @param filters       Map of JSON attribute name to values that entities must have to be counted; null or empty
+     *                      to count every entity of the class.
+     * @param dateAttribute The name of the JSON date attribute.
+     * @param interval      The calendar interval to count by.
+     * @param <T>           PASS entity type
+     * @return Map of the start of each interval, in UTC, to the number of entities dated within it. Intervals between
+     * the first and last date with no entities are included with a count of zero.
+     */
+    public <T extends PassEntity> SortedMap<DateTime, Long> countByDate(Class<T> modelClass,
+                                                                        Map<String, Object> filters,
+                                                                        String dateAttribute,
+                                                                        DateInterval interval);
+
+    /**
+     * Count the distinct values of an attribute among the PASS entities of the class provided, e.g. the number of
+     * different funders of Grants. The count is calculated by the index without retrieving any of the entities. It is
+     * exact for up to a few thousand values, and approximate beyond that. As for
+     * {@link #countByAttributeValue(Class, Map, String)}, only exact-match (keyword) attributes can be counted.
+     *
+     * @param modelClass The class of PASS entity.
+     * @param filters    Map of JSON attribute name to values that entities must have to be counted; null or empty to
+     *                   count every entity of the class.
+     * @param attribute  The name of the JSON attribute to count values of.
+     * @param <T>        PASS entity type
+     * @return The number of distinct values.
+     */
+    public <T extends PassEntity> long countDistinct(Class<T> modelClass, Map<String, Object> filters,
+                                                     String attribute);
+
+    /**
+     * Retrieve the URIs of PASS entities of the class provided meeting all of the criteria specified. As well as
+     * exact matches, criteria can compare an attribute with a value, e.g. to find the Submissions submitted in the
+     * last day, or the Grants ending after today. Results are limited to the value of the pass.elasticsearch.limit
+     * environment variable; the default is 200. Results are returned in the order given by the criteria, or in the
+     * order the index finds them if the criteria give none. Ties are only ordered by URI when a limit and offset are
+     * given.
+     *
+     * @param modelClass The class of PASS entity.
+     * @param criteria   Conditions the entities must meet.
+     * @param <T>        PASS entity type
+     * @return Set of URIs of matching PASS entities.
+     */
+    public <T extends PassEntity> Set<URI> findAllByCriteria(Class<T> modelClass, IndexCriteria criteria);
+
+    /**
+     * Retrieve the URIs of PASS entities of the class provided meeting all of the criteria specified, as for
+     * {@link #findAllByCriteria(Class, IndexCriteria)}, with a limit and offset to page through the results.
+     *
+     * @param modelClass The class of PASS entity.
+     * @param criteria   Conditions the entities must meet.
+     * @param limit      Maximum number of results.
+     * @param offset     Result offset.
+     * @param <T>        PASS entity type
+     * @return Set of URIs of matching PASS entities.
+     */
+    public <T extends PassEntity> Set<URI> findAllByCriteria(Class<T> modelClass, IndexCriteria criteria,
+                                                             int limit, int offset);
+
+    /**
+     * Retrieve the URIs of every PASS entity of the class provided meeting all of the criteria specified, as for
+     * {@link #findAllByCriteria(Class, IndexCriteria)}, but without a limit on the number of results. Results are
+     * streamed as for {@link PassClient#streamAllByAttributes(Class, Map)}, and the stream should be closed after use.
+     *
+     * @param modelClass The class of PASS entity.
+     * @param criteria   Conditions the entities must meet.
+     * @param <T>        PASS entity type
+     * @return Stream of all matching PASS entity URIs.
+     */
+    public <T extends PassEntity> Stream<URI> streamAllByCriteria(Class<T> modelClass,
+                                                                  IndexCriteria criteria);
+}
@@ -15,7 +15,9 @@
  */
 package org.dataconservancy.pass.client;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import org.dataconservancy.pass.model.PassEntity;
 
@@ -35,6 +37,20 @@ public interface PassJsonAdapter {
      */
     public byte[] toJson(PassEntity modelObject, boolean includeContext);
 
+    /**
+     * Write a PASS model object as compact JSON to a stream, optionally with the context, as for
+     * {@link #toJson(PassEntity, boolean)}. The stream is not closed.
+     *
+     * @param modelObject    The PASS entity.
+     * @param includeContext true if the JSON-LD context should be included in the JSON
+     * @param out            Stream to write the JSON to.
+     * @throws IOException if the JSON could not be written
+     */
+    public default void writeJson(PassEntity modelObject, boolean includeContext, OutputStream out)
+        throws IOException {
+        out.write(toJson(modelObject, includeContext));
+    }
+
     /**
      * Pass in the JSON data as a byte array and the model class to match it to e.g. Deposit.class, returns populated
      * model
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.dataconservancy.pass.client.DateInterval;
+import org.dataconservancy.pass.client.PassClientFactory;
+import org.dataconservancy.pass.client.PassIndexClient;
+import org.dataconservancy.pass.model.Grant;
+import org.dataconservancy.pass.model.Submission;
+import org.dataconservancy.pass.model.Submission.SubmissionStatus;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for PassIndexClient.countByAttributeValue, countByDate and countDistinct
+ */
+public class AggregationIT extends ClientITBase {
+
+    private final PassIndexClient indexClient = PassClientFactory.getPassIndexClient();
+
+    private Map<String, Object> byGrant;
+
+    /* Four Submissions for one Grant, across two months and two repositories */
+    @Before
+    public void createSubmissions() {
+        URI grantUri = client.createResource(random(Grant.class, 1));
+        createdUris.put(grantUri, Grant.class);
+        byGrant = Collections.singletonMap("grants", grantUri);
+
+        createSubmission(grantUri, SubmissionStatus.SUBMITTED, utc(2020, 1, 5), "urn:repo:1");
+        createSubmission(grantUri, SubmissionStatus.SUBMITTED, utc(2020, 1, 20), "urn:repo:2");
+        createSubmission(grantUri, SubmissionStatus.COMPLETE, utc(2020, 3, 2), "urn:repo:1");
+        createSubmission(grantUri, SubmissionStatus.COMPLETE, utc(2020, 3, 31), "urn:repo:1");
+
+        attempt(RETRIES, () -> {
+            assertEquals(4, client.countByAttributes(Submission.class, byGrant));
+        });
+    }
+
+    /* Submissions are counted by status */
+    @Test
+    public void testCountByStatus() {
+        Map<String, Long> counts = indexClient.countByAttributeValue(Submission.class, byGrant, "submissionStatus");
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(2), counts.get("submitted"));
+        assertEquals(Long.valueOf(2), counts.get("complete"));
+    }
+
+    /* Submissions are counted by month, including the empty month between */
+    @Test
+    public void testCountByMonth() {
+        SortedMap<DateTime, Long> expected = new TreeMap<>();
+        expected.put(utc(2020, 1, 1), 2L);
+        expected.put(utc(2020, 2, 1), 0L);
+        expected.put(utc(2020, 3, 1), 2L);
+
+        assertEquals(expected, indexClient.countByDate(Submission.class, byGrant, "submittedDate", DateInterval.MONTH));
+    }
+
+    /* Distinct repositories are counted once however many Submissions use them */
+    @Test
+    public void testCountDistinctRepositories() {
+        assertEquals(2, indexClient.countDistinct(Submission.class, byGrant, "repositories"));
+    }
+
+    private void createSubmission(URI grantUri, SubmissionStatus status, DateTime submittedDate, String repository) {
+        Submission submission = random(Submission.class, 1);
+        submission.setGrants(asList(grantUri));
+        submission.setSubmissionStatus(status);
+        submission.setSubmittedDate(submittedDate);
+        submission.setRepositories(asList(URI.create(repository)));
+        URI uri = client.createResource(submission);
+        createdUris.put(uri, Submission.class);
+    }
+
+    private static DateTime utc(int year, int month, int day) {
+        return new DateTime(year, month, day, 0, 0, DateTimeZone.UTC);
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.Call;
+import org.dataconservancy.pass.client.PassClientDefault;
+import org.dataconservancy.pass.client.elasticsearch.ElasticsearchPassClient;
+import org.dataconservancy.pass.client.fedora.FedoraPassCrudClient;
+import org.dataconservancy.pass.client.fedora.PassTransaction;
+import org.dataconservancy.pass.client.fedora.UpdateConflictException;
+import org.dataconservancy.pass.model.Deposit;
+import org.dataconservancy.pass.model.Grant;
+import org.dataconservancy.pass.model.Submission;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the AsyncPassClient methods of PassClientDefault
+ */
+public class AsyncPassClientIT extends ClientITBase {
+
+    private static final String RECENT_WRITES_SIZE_KEY = "pass.elasticsearch.recent.writes.size";
+
+    private PassClientDefault asyncClient;
+
+    private PassClientDefault blockingClient;
+
+    private final AtomicReference<Call> blockedCall = new AtomicReference<>();
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Before
+    public void setUp() {
+        System.setProperty(RECENT_WRITES_SIZE_KEY, "100");
+        asyncClient = new PassClientDefault();
+
+        // Holds the first request made through it until released, so it can be cancelled while in flight
+        FedoraPassCrudClient blockingCrudClient = new FedoraPassCrudClient(
+            FedoraPassCrudClient.buildHttpClient().newBuilder().addInterceptor(chain -> {
+                if (blockedCall.compareAndSet(null, chain.call())) {
+                    started.countDown();
+                    try {
+                        release.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while held");
+                    }
+                }
+                return chain.proceed(chain.request());
+            }).build());
+        blockingClient = new PassClientDefault(blockingCrudClient, new ElasticsearchPassClient());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        release.countDown();
+        System.clearProperty(RECENT_WRITES_SIZE_KEY);
+        try {
+            asyncClient.close();
+        } finally {
+            blockingClient.close();
+        }
+    }
+
+    /**
+     * Each future completes with the same value as the corresponding synchronous method
+     */
+    @Test
+    public void roundTripTest() {
+        Grant grant = random(Grant.class, 1);
+        URI grantUri = asyncClient.createResourceAsync(grant).join();
+        createdUris.put(grantUri, Grant.class);
+        assertNotNull(grantUri);
+
+        Grant read = asyncClient.readResourceAsync(grantUri, Grant.class).join();
+        assertEquals(grantUri, read.getId());
+        assertEquals(normalized(grant), normalized(read));
+
+        read.setLocalKey("async-" + grantUri.hashCode());
+        asyncClient.updateResourceAsync(read).join();
+        assertEquals(read.getLocalKey(), asyncClient.readResourceAsync(grantUri, Grant.class).join().getLocalKey());
+
+        attempt(RETRIES, () -> {
+            assertEquals(grantUri, client.findByAttribute(Grant.class, "@id", grantUri));
+        });
+        assertEquals(grantUri, asyncClient.findByAttributeAsync(Grant.class, "localKey", read.getLocalKey()).join());
+        assertEquals(singleton(grantUri),
+                     asyncClient.findAllByAttributeAsync(Grant.class, "localKey", read.getLocalKey()).join());
+        assertEquals(singleton(grantUri),
+                     asyncClient.findAllByAttributeAsync(Grant.class, "localKey", read.getLocalKey(), 10, 0).join());
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("localKey", read.getLocalKey());
+        attributes.put("awardNumber", read.getAwardNumber());
+        assertEquals(singleton(grantUri), asyncClient.findAllByAttributesAsync(Grant.class, attributes).join());
+        assertEquals(singleton(grantUri),
+                     asyncClient.findAllByAttributesAsync(Grant.class, attributes, 10, 0).join());
+
+        asyncClient.deleteResourceAsync(grantUri).join();
+        createdUris.remove(grantUri);
+        try {
+            asyncClient.readResourceAsync(grantUri, Grant.class).join();
+            fail("Expected the deleted resource not to be read");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof RuntimeException);
+        }
+    }
+
+    /**
+     * getIncomingAsync and uploadAsync complete with the links and location of the content
+     */
+    @Test
+    public void incomingAndUploadTest() {
+        URI submissionUri = asyncClient.createResourceAsync(random(Submission.class, 1)).join();
+        createdUris.put(submissionUri, Submission.class);
+        Deposit deposit = random(Deposit.class, 1);
+        deposit.setSubmission(submissionUri);
+        URI depositUri = asyncClient.createResourceAsync(deposit).join();
+        createdUris.put(depositUri, Deposit.class);
+
+        Map<String, Collection<URI>> incoming = asyncClient.getIncomingAsync(submissionUri).join();
+        assertEquals(singleton(depositUri), new HashSet<>(incoming.get("submission")));
+
+        byte[] content = "async upload".getBytes(StandardCharsets.UTF_8);
+        URI uploaded = asyncClient.uploadAsync(submissionUri, new ByteArrayInputStream(content)).join();
+        assertNotNull(uploaded);
+    }
+
+    /**
+     * Reading a resource that does not exist completes the future exceptionally
+     */
+    @Test
+    public void notFoundCompletesExceptionallyTest() {
+        URI grantUri = asyncClient.createResourceAsync(random(Grant.class, 1)).join();
+        URI missing = URI.create(grantUri + "-missing");
+        createdUris.put(grantUri, Grant.class);
+
+        CompletableFuture<Grant> read = asyncClient.readResourceAsync(missing, Grant.class);
+        try {
+            read.join();
+            fail("Expected the read of " + missing + " to fail");
+        } catch (CompletionException e) {
+            assertTrue(read.isCompletedExceptionally());
+            assertTrue(e.getCause() instanceof RuntimeException);
+            assertTrue(messages(e).contains("404"));
+        }
+    }
+
+    /**
+     * Updating a resource that was changed since it was read completes the future with an UpdateConflictException
+     */
+    @Test
+    public void conflictCompletesExceptionallyTest() {
+        URI grantUri = asyncClient.createResourceAsync(random(Grant.class, 1)).join();
+        createdUris.put(grantUri, Grant.class);
+
+        Grant grantCopy1 = asyncClient.readResourceAsync(grantUri, Grant.class).join();
+        Grant grantCopy2 = client.readResource(grantUri, Grant.class);
+        grantCopy1.setLocalKey("123456");
+        asyncClient.updateResourceAsync(grantCopy1).join();
+
+        grantCopy2.setLocalKey("abcdefg");
+        try {
+            asyncClient.updateResourceAsync(grantCopy2).join();
+            fail("Expected the update of a stale copy to conflict");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof UpdateConflictException);
+        }
+    }
+
+    /**
+     * Cancelling the future of a request in flight cancels the OkHttp call
+     */
+    @Test
+    public void cancelCancelsCallTest() throws Exception {
+        CompletableFuture<URI> created = blockingClient.createResourceAsync(random(Grant.class, 1));
+        assertTrue(started.await(30, TimeUnit.SECONDS));
+
+        assertTrue(created.cancel(true));
+        assertTrue(blockedCall.get().isCanceled());
+        release.countDown();
+
+        assertTrue(created.isCancelled());
+    }
+
+    /**
+     * Outside of a transaction, a write is recorded as soon as its future completes
+     */
+    @Test
+    public void writesRecordedOnCompletionTest() {
+        Grant grant = random(Grant.class, 1);
+        assertEquals(0, asyncClient.findAllByAttribute(Grant.class, "localKey", grant.getLocalKey()).size());
+
+        URI grantUri = asyncClient.createResourceAsync(grant).join();
+        createdUris.put(grantUri, Grant.class);
+
+        assertEquals(1, asyncClient.getRecentWrites().size());
+        assertEquals(singleton(grantUri),
+                     asyncClient.findAllByAttribute(Grant.class, "localKey", grant.getLocalKey()));
+
+        asyncClient.deleteResourceAsync(grantUri).join();
+        createdUris.remove(grantUri);
+
+        assertEquals(0, asyncClient.getRecentWrites().size());
+    }
+
+    /**
+     * Inside a transaction, a write is recorded when the transaction commits rather than when its future completes
+     */
+    @Test
+    public void writesRecordedOnCommitTest() {
+        URI grantUri;
+
+        try (PassTransaction tx = asyncClient.beginTransaction()) {
+            grantUri = asyncClient.createResourceAsync(random(Grant.class, 1)).join();
+            assertEquals(0, asyncClient.getRecentWrites().size());
+
+            tx.commit();
+            assertFalse(tx.isActive());
+        }
+        createdUris.put(grantUri, Grant.class);
+
+        assertEquals(1, asyncClient.getRecentWrites().size());
+        assertEquals(grantUri, asyncClient.findByAttribute(Grant.class, "@id", grantUri));
+    }
+
+    private static String messages(Throwable e) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            messages.append(t.getMessage()).append('\n');
+        }
+        return messages.toString();
+    }
+}
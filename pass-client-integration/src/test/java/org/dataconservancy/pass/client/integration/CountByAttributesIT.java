@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+import org.dataconservancy.pass.model.Grant;
+import org.dataconservancy.pass.model.Submission;
+import org.dataconservancy.pass.model.User;
+import org.junit.Test;
+
+/**
+ * Tests for PassClient.countByAttributes and existsByAttributes
+ */
+public class CountByAttributesIT extends ClientITBase {
+
+    /* Submissions for a Grant are counted, and other Submissions are not */
+    @Test
+    public void testCountSubmissionsForGrant() {
+        Grant grant = random(Grant.class, 1);
+        URI grantUri = client.createResource(grant);
+        createdUris.put(grantUri, Grant.class);
+
+        for (int i = 0; i < 3; i++) {
+            Submission submission = random(Submission.class, 1);
+            submission.setGrants(asList(grantUri));
+            URI uri = client.createResource(submission);
+            createdUris.put(uri, Submission.class);
+        }
+        URI otherUri = client.createResource(random(Submission.class, 1));
+        createdUris.put(otherUri, Submission.class);
+
+        Map<String, Object> byGrant = Collections.singletonMap("grants", grantUri);
+        attempt(RETRIES, () -> {
+            assertEquals(3, client.findAllByAttributes(Submission.class, byGrant).size());
+            assertEquals(otherUri, client.findByAttribute(Submission.class, "@id", otherUri));
+        });
+
+        assertEquals(3, client.countByAttributes(Submission.class, byGrant));
+        assertEquals(0, client.countByAttributes(Submission.class,
+                                                 Collections.singletonMap("grants", URI.create("urn:none"))));
+    }
+
+    /* A User with a locator ID exists, and one with an unknown locator ID does not */
+    @Test
+    public void testExistsUserByLocatorId() {
+        String locatorId = "test:" + UUID.randomUUID();
+        User user = random(User.class, 1);
+        user.setLocatorIds(asList(locatorId));
+        URI userUri = client.createResource(user);
+        createdUris.put(userUri, User.class);
+
+        attempt(RETRIES, () -> {
+            assertEquals(userUri, client.findByAttribute(User.class, "locatorIds", locatorId));
+        });
+
+        assertTrue(client.existsByAttributes(User.class, Collections.singletonMap("locatorIds", locatorId)));
+        assertFalse(client.existsByAttributes(User.class,
+                                              Collections.singletonMap("locatorIds", "test:" + UUID.randomUUID())));
+        // the type is part of the match
+        assertFalse(client.existsByAttributes(Grant.class, Collections.singletonMap("@id", userUri)));
+    }
+}
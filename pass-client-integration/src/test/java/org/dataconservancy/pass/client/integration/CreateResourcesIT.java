@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.unitils.reflectionassert.ReflectionAssert.assertReflectionEquals;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dataconservancy.pass.client.BatchResult;
+import org.dataconservancy.pass.model.Funder;
+import org.dataconservancy.pass.model.Grant;
+import org.dataconservancy.pass.model.PassEntity;
+import org.junit.Test;
+import org.unitils.reflectionassert.ReflectionComparatorMode;
+
+/**
+ * Tests creating many resources at once
+ */
+public class CreateResourcesIT extends ClientITBase {
+
+    /* Entities of mixed types are created, with results in the order provided */
+    @Test
+    public void createResourcesTest() {
+        List<PassEntity> toCreate = new ArrayList<PassEntity>();
+        for (int i = 0; i < 20; i++) {
+            toCreate.add(i % 2 == 0 ? random(Grant.class, 1) : random(Funder.class, 1));
+        }
+
+        List<BatchResult<URI>> results = client.createResources(toCreate);
+
+        assertEquals(toCreate.size(), results.size());
+        for (int i = 0; i < toCreate.size(); i++) {
+            BatchResult<URI> result = results.get(i);
+            assertTrue(result.isSuccess());
+            assertSame(toCreate.get(i), result.getEntity());
+            createdUris.put(result.getValue(), toCreate.get(i).getClass());
+
+            PassEntity retrieved = client.readResource(result.getValue(), toCreate.get(i).getClass());
+            assertReflectionEquals(normalized(toCreate.get(i)), normalized(retrieved),
+                                   ReflectionComparatorMode.LENIENT_ORDER);
+        }
+    }
+
+    /* An entity that cannot be created is reported without losing the others */
+    @Test
+    public void createAndReadResourcesPartialFailureTest() {
+        List<Grant> toCreate = new ArrayList<Grant>();
+        toCreate.add(random(Grant.class, 1));
+        toCreate.add(null);
+        toCreate.add(random(Grant.class, 1));
+
+        List<BatchResult<Grant>> results = client.createAndReadResources(toCreate, Grant.class);
+
+        assertEquals(3, results.size());
+        assertFalse(results.get(1).isSuccess());
+        assertNotNull(results.get(1).getError());
+        for (int i : new int[] {0, 2}) {
+            assertTrue(results.get(i).isSuccess());
+            createdUris.put(results.get(i).getValue().getId(), Grant.class);
+            assertReflectionEquals(normalized(toCreate.get(i)), normalized(results.get(i).getValue()),
+                                   ReflectionComparatorMode.LENIENT_ORDER);
+        }
+    }
+}
@@ -140,6 +140,28 @@ public class FindAllByAttributeIT extends ClientITBase {
         assertEquals(0, matchedIds.size());
     }
 
+    /**
+     * Ensures a multi-word value matches on an analyzed field as a phrase, so the same words in another order do not
+     */
+    @Test
+    public void testPhraseSearch() {
+        File file = random(File.class, 1);
+        file.setDescription("accepted manuscript: final version (2018)");
+        URI fileId = client.createResource(file);
+        createdUris.put(fileId, File.class);
+
+        attempt(RETRIES, () -> {
+            final URI uri = client.findByAttribute(File.class, "@id", fileId);
+            assertEquals(fileId, uri);
+        });
+
+        Set<URI> matches = client.findAllByAttribute(File.class, "description", file.getDescription());
+        assertEquals(Collections.singleton(fileId), matches);
+
+        matches = client.findAllByAttribute(File.class, "description", "final version: accepted manuscript (2018)");
+        assertEquals(0, matches.size());
+    }
+
     @Test
     public void testFindDepositWithNoStatus() throws Exception {
         Deposit deposit = random(Deposit.class, 1);
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dataconservancy.pass.model.Grant;
+import org.dataconservancy.pass.model.User;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for PassClient.findAllByAttributeIn
+ */
+public class FindAllByAttributeInIT extends ClientITBase {
+
+    private static final String CHUNK_SIZE_KEY = "pass.elasticsearch.terms.chunk.size";
+
+    @After
+    public void clearChunkSize() {
+        System.clearProperty(CHUNK_SIZE_KEY);
+    }
+
+    /* Each value maps to the entities matching it, across several chunks of values */
+    @Test
+    public void testFindGrantsByLocalKey() {
+        System.setProperty(CHUNK_SIZE_KEY, "2");
+
+        List<String> localKeys = new ArrayList<>();
+        List<URI> grantUris = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Grant grant = random(Grant.class, 1);
+            grant.setLocalKey(UUID.randomUUID().toString());
+            URI uri = client.createResource(grant);
+            createdUris.put(uri, Grant.class);
+            localKeys.add(grant.getLocalKey());
+            grantUris.add(uri);
+        }
+        String unmatched = UUID.randomUUID().toString();
+
+        attempt(RETRIES, () -> {
+            assertEquals(grantUris.get(4), client.findByAttribute(Grant.class, "localKey", localKeys.get(4)));
+        });
+
+        List<String> values = new ArrayList<>(localKeys);
+        values.add(unmatched);
+        Map<Object, Set<URI>> results = client.findAllByAttributeIn(Grant.class, "localKey", values);
+
+        assertEquals(6, results.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Collections.singleton(grantUris.get(i)), results.get(localKeys.get(i)));
+        }
+        assertTrue(results.get(unmatched).isEmpty());
+    }
+
+    /* A multi-valued attribute matches on any of its values */
+    @Test
+    public void testFindUsersByLocatorId() {
+        String locatorId1 = "test:" + UUID.randomUUID();
+        String locatorId2 = "test:" + UUID.randomUUID();
+
+        User user1 = random(User.class, 1);
+        user1.setLocatorIds(asList(locatorId1, "other:" + UUID.randomUUID()));
+        URI userUri1 = client.createResource(user1);
+        createdUris.put(userUri1, User.class);
+
+        User user2 = random(User.class, 1);
+        user2.setLocatorIds(asList("other:" + UUID.randomUUID(), locatorId2));
+        URI userUri2 = client.createResource(user2);
+        createdUris.put(userUri2, User.class);
+
+        attempt(RETRIES, () -> {
+            assertEquals(userUri2, client.findByAttribute(User.class, "@id", userUri2));
+        });
+
+        Map<Object, Set<URI>> results = client.findAllByAttributeIn(User.class, "locatorIds",
+                                                                    asList(locatorId1, locatorId2));
+
+        assertEquals(Collections.singleton(userUri1), results.get(locatorId1));
+        assertEquals(Collections.singleton(userUri2), results.get(locatorId2));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.dataconservancy.pass.client.IndexCriteria;
+import org.dataconservancy.pass.client.PassClientFactory;
+import org.dataconservancy.pass.client.PassIndexClient;
+import org.dataconservancy.pass.model.Grant;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for PassIndexClient.findAllByCriteria and streamAllByCriteria
+ */
+public class FindAllByCriteriaIT extends ClientITBase {
+
+    private static final DateTime END_2019 = new DateTime(2019, 6, 30, 23, 59, DateTimeZone.UTC);
+
+    private static final DateTime END_2020 = new DateTime(2020, 6, 30, 12, 0, DateTimeZone.forOffsetHours(-5));
+
+    private static final DateTime END_2021 = new DateTime(2021, 6, 30, 0, 0, DateTimeZone.UTC);
+
+    private final PassIndexClient indexClient = PassClientFactory.getPassIndexClient();
+
+    private final String awardNumber = UUID.randomUUID().toString();
+
+    private URI grant2019;
+
+    private URI grant2020;
+
+    private URI grant2021;
+
+    @Before
+    public void createGrants() {
+        grant2019 = createGrant(END_2019);
+        grant2020 = createGrant(END_2020);
+        grant2021 = createGrant(END_2021);
+
+        attempt(RETRIES, () -> {
+            assertEquals(3, client.findAllByAttribute(Grant.class, "awardNumber", awardNumber).size());
+        });
+    }
+
+    /* Dates are compared exclusively or inclusively, whatever their time zone */
+    @Test
+    public void testDateComparisons() {
+        assertEquals(set(grant2020, grant2021), indexClient.findAllByCriteria(Grant.class, criteria()
+            .greaterThan("endDate", END_2019)));
+        assertEquals(set(grant2019, grant2020), indexClient.findAllByCriteria(Grant.class, criteria()
+            .lessThanOrEqualTo("endDate", END_2020.withZone(DateTimeZone.UTC))));
+        assertEquals(set(grant2019), indexClient.findAllByCriteria(Grant.class, criteria()
+            .lessThan("endDate", END_2020)));
+        assertEquals(set(grant2021), indexClient.findAllByCriteria(Grant.class, criteria()
+            .greaterThanOrEqualTo("endDate", END_2021)));
+    }
+
+    /* A range is expressed as two comparisons */
+    @Test
+    public void testDateRange() {
+        IndexCriteria criteria = criteria()
+            .greaterThan("endDate", END_2019)
+            .lessThan("endDate", END_2021);
+
+        assertEquals(set(grant2020), indexClient.findAllByCriteria(Grant.class, criteria));
+        try (Stream<URI> uris = indexClient.streamAllByCriteria(Grant.class, criteria)) {
+            assertEquals(set(grant2020), uris.collect(toSet()));
+        }
+    }
+
+    /* Results come back in the order asked for, and paging through them neither skips nor repeats any */
+    @Test
+    public void testSortedPages() {
+        IndexCriteria criteria = criteria().sortBy("endDate", false);
+
+        assertEquals(Arrays.asList(grant2021, grant2020, grant2019),
+                     new ArrayList<>(indexClient.findAllByCriteria(Grant.class, criteria)));
+
+        List<URI> paged = new ArrayList<>();
+        for (int offset = 0; offset < 3; offset++) {
+            paged.addAll(indexClient.findAllByCriteria(Grant.class, criteria, 1, offset));
+        }
+        assertEquals(Arrays.asList(grant2021, grant2020, grant2019), paged);
+    }
+
+    /* Without a sort, pages are ordered by URI, so @id must be sortable in the index */
+    @Test
+    public void testUriOrder() {
+        List<URI> expected = new ArrayList<>(set(grant2019, grant2020, grant2021));
+        Collections.sort(expected);
+
+        assertEquals(expected,
+                     new ArrayList<>(client.findAllByAttribute(Grant.class, "awardNumber", awardNumber, 3, 0)));
+
+        List<URI> paged = new ArrayList<>();
+        for (int offset = 0; offset < 3; offset++) {
+            paged.addAll(indexClient.findAllByCriteria(Grant.class, criteria(), 1, offset));
+        }
+        assertEquals(expected, paged);
+    }
+
+    /* Results that are not paged are not sorted, but are all found */
+    @Test
+    public void testUnpagedResults() {
+        assertEquals(set(grant2019, grant2020, grant2021),
+                     client.findAllByAttribute(Grant.class, "awardNumber", awardNumber));
+        assertEquals(set(grant2019, grant2020, grant2021), indexClient.findAllByCriteria(Grant.class, criteria()));
+    }
+
+    private IndexCriteria criteria() {
+        return new IndexCriteria().equalTo("awardNumber", awardNumber);
+    }
+
+    private URI createGrant(DateTime endDate) {
+        Grant grant = random(Grant.class, 1);
+        grant.setAwardNumber(awardNumber);
+        grant.setEndDate(endDate);
+        URI uri = client.createResource(grant);
+        createdUris.put(uri, Grant.class);
+        return uri;
+    }
+
+    private static HashSet<URI> set(URI... uris) {
+        return new HashSet<>(Arrays.asList(uris));
+    }
+}
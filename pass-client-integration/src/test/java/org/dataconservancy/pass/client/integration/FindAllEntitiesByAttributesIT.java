@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.dataconservancy.pass.model.Grant;
+import org.junit.Test;
+
+/**
+ * Tests for PassClient.findAllEntitiesByAttribute and findAllEntitiesByAttributes
+ */
+public class FindAllEntitiesByAttributesIT extends ClientITBase {
+
+    /* Entities read from the index match those read from the repository, and are flagged as index-sourced */
+    @Test
+    public void testFindEntities() {
+        String localKey = UUID.randomUUID().toString();
+        Grant grant = random(Grant.class, 1);
+        grant.setLocalKey(localKey);
+        URI uri = client.createResource(grant);
+        createdUris.put(uri, Grant.class);
+
+        attempt(RETRIES, () -> {
+            assertEquals(uri, client.findByAttribute(Grant.class, "localKey", localKey));
+        });
+
+        Grant fromRepository = client.readResource(uri, Grant.class);
+        List<Grant> fromIndex = client.findAllEntitiesByAttribute(Grant.class, "localKey", localKey);
+
+        assertEquals(1, fromIndex.size());
+        Grant indexed = fromIndex.get(0);
+        assertEquals(uri, indexed.getId());
+        assertEquals(normalized(fromRepository), normalized(indexed));
+        assertTrue(indexed.isIndexSourced());
+        assertNull(indexed.getVersionTag());
+        assertFalse(fromRepository.isIndexSourced());
+
+        assertEquals(fromIndex, client.findAllEntitiesByAttributes(Grant.class,
+                                                                   Collections.singletonMap("localKey", localKey)));
+    }
+
+    /* An entity read from the index cannot be used to update the repository */
+    @Test
+    public void testUpdateIndexedEntityRefused() {
+        String localKey = UUID.randomUUID().toString();
+        Grant grant = random(Grant.class, 1);
+        grant.setLocalKey(localKey);
+        URI uri = client.createResource(grant);
+        createdUris.put(uri, Grant.class);
+
+        attempt(RETRIES, () -> {
+            assertEquals(uri, client.findByAttribute(Grant.class, "localKey", localKey));
+        });
+
+        Grant indexed = client.findAllEntitiesByAttribute(Grant.class, "localKey", localKey).get(0);
+        indexed.setAwardNumber("changed");
+        try {
+            client.updateResource(indexed);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains(uri.toString()));
+        }
+    }
+}
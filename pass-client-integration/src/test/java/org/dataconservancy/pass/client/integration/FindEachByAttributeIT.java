@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import org.dataconservancy.pass.client.AttributeQuery;
+import org.dataconservancy.pass.client.AttributeQueryResult;
+import org.dataconservancy.pass.model.Journal;
+import org.dataconservancy.pass.model.PassEntity;
+import org.dataconservancy.pass.model.Publication;
+import org.junit.Test;
+
+/**
+ * Tests for PassClient.findEachByAttribute
+ */
+public class FindEachByAttributeIT extends ClientITBase {
+
+    /* Lookups of different types are answered in order, and a failed lookup does not affect the others */
+    @Test
+    public void testFindEach() {
+        String issn = "issn:" + UUID.randomUUID();
+        Journal journal = random(Journal.class, 1);
+        journal.setIssns(asList(issn));
+        URI journalUri = client.createResource(journal);
+        createdUris.put(journalUri, Journal.class);
+
+        String doi = "10.1234/" + UUID.randomUUID();
+        URI publicationUri1 = createPublication(doi);
+        URI publicationUri2 = createPublication(doi);
+
+        attempt(RETRIES, () -> {
+            assertEquals(journalUri, client.findByAttribute(Journal.class, "@id", journalUri));
+            assertEquals(publicationUri2, client.findByAttribute(Publication.class, "@id", publicationUri2));
+        });
+
+        String sharedTitle = "title:" + UUID.randomUUID();
+        List<AttributeQueryResult> results = client.findEachByAttribute(asList(
+            AttributeQuery.of(Journal.class, "issns", issn),
+            AttributeQuery.of(Publication.class, "@id", publicationUri1),
+            AttributeQuery.of(Publication.class, "doi", doi),
+            AttributeQuery.of(Publication.class, "title", sharedTitle),
+            AttributeQuery.of(PassEntity.class, "doi", doi)));
+
+        assertEquals(5, results.size());
+        assertEquals(journalUri, results.get(0).getUri());
+        assertEquals(publicationUri1, results.get(1).getUri());
+
+        // two publications share the DOI
+        assertFalse(results.get(2).isSuccess());
+
+        // nothing matched
+        assertTrue(results.get(3).isSuccess());
+        assertNull(results.get(3).getUri());
+
+        // invalid query
+        assertFalse(results.get(4).isSuccess());
+        assertTrue(results.get(4).getError() instanceof IllegalArgumentException);
+    }
+
+    private URI createPublication(String doi) {
+        Publication publication = random(Publication.class, 1);
+        publication.setDoi(doi);
+        URI uri = client.createResource(publication);
+        createdUris.put(uri, Publication.class);
+        return uri;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.unitils.reflectionassert.ReflectionAssert.assertReflectionEquals;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dataconservancy.pass.client.BatchReadException;
+import org.dataconservancy.pass.model.Deposit;
+import org.junit.Test;
+import org.unitils.reflectionassert.ReflectionComparatorMode;
+
+/**
+ * Tests reading many resources at once
+ */
+public class ReadResourcesIT extends ClientITBase {
+
+    /* All resources are read, and returned in the order requested */
+    @Test
+    public void readResourcesTest() {
+        Map<URI, Deposit> deposited = createDeposits(30);
+
+        Map<URI, Deposit> retrieved = client.readResources(deposited.keySet(), Deposit.class);
+
+        assertEquals(new ArrayList<URI>(deposited.keySet()), new ArrayList<URI>(retrieved.keySet()));
+        for (URI uri : deposited.keySet()) {
+            assertReflectionEquals(normalized(deposited.get(uri)), normalized(retrieved.get(uri)),
+                                   ReflectionComparatorMode.LENIENT_ORDER);
+        }
+    }
+
+    /* A resource that cannot be read is reported without losing the others */
+    @Test
+    public void readResourcesPartialFailureTest() {
+        Map<URI, Deposit> deposited = createDeposits(5);
+        URI missing = URI.create(deposited.keySet().iterator().next().toString() + "-missing");
+
+        List<URI> uris = new ArrayList<URI>(deposited.keySet());
+        uris.add(2, missing);
+
+        try {
+            client.readResources(uris, Deposit.class);
+            fail("Expected a BatchReadException");
+        } catch (BatchReadException e) {
+            assertEquals(1, e.getFailures().size());
+            assertTrue(e.getFailures().containsKey(missing));
+            assertEquals(deposited.keySet(), e.getResults().keySet());
+        }
+    }
+
+    /* A URI requested more than once is read once */
+    @Test
+    public void readResourcesDuplicateTest() {
+        Map<URI, Deposit> deposited = createDeposits(2);
+        List<URI> uris = new ArrayList<URI>(deposited.keySet());
+        uris.add(uris.get(0));
+
+        Map<URI, Deposit> retrieved = client.readResources(uris, Deposit.class);
+
+        assertEquals(new ArrayList<URI>(deposited.keySet()), new ArrayList<URI>(retrieved.keySet()));
+    }
+
+    private Map<URI, Deposit> createDeposits(int count) {
+        Map<URI, Deposit> deposited = new LinkedHashMap<URI, Deposit>();
+        for (int i = 0; i < count; i++) {
+            Deposit deposit = random(Deposit.class, 1);
+            URI uri = client.createResource(deposit);
+            createdUris.put(uri, Deposit.class);
+            deposited.put(uri, deposit);
+        }
+        return deposited;
+    }
+}
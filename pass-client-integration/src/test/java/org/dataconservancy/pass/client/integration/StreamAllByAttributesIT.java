@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.dataconservancy.pass.model.User;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for PassClient.streamAllByAttributes
+ */
+public class StreamAllByAttributesIT extends ClientITBase {
+
+    private static final String SCROLL_SIZE_KEY = "pass.elasticsearch.scroll.size";
+
+    private final String lastName = UUID.randomUUID().toString();
+
+    private final Set<URI> expected = new HashSet<>();
+
+    @Before
+    public void createUsers() {
+        // a small page size, so that results span several pages
+        System.setProperty(SCROLL_SIZE_KEY, "3");
+
+        for (int i = 0; i < 8; i++) {
+            User user = random(User.class, 1);
+            user.setLastName(lastName);
+            URI uri = client.createResource(user);
+            createdUris.put(uri, User.class);
+            expected.add(uri);
+        }
+
+        attempt(RETRIES, () -> {
+            assertEquals(expected, client.findAllByAttribute(User.class, "lastName", lastName));
+        });
+    }
+
+    @After
+    public void clearScrollSize() {
+        System.clearProperty(SCROLL_SIZE_KEY);
+    }
+
+    /* Every match is streamed, across several pages */
+    @Test
+    public void streamAllTest() {
+        try (Stream<URI> uris = client.streamAllByAttributes(User.class, lastNameMap())) {
+            assertEquals(expected, uris.collect(toSet()));
+        }
+    }
+
+    /* A stream can be closed before it is consumed, and another one started */
+    @Test
+    public void closeEarlyTest() {
+        try (Stream<URI> uris = client.streamAllByAttributes(User.class, lastNameMap())) {
+            List<URI> first = uris.limit(4).collect(Collectors.toList());
+            assertEquals(4, first.size());
+        }
+
+        try (Stream<URI> uris = client.streamAllByAttributes(User.class, lastNameMap())) {
+            assertEquals(expected.size(), uris.count());
+        }
+    }
+
+    private Map<String, Object> lastNameMap() {
+        return Collections.singletonMap("lastName", lastName);
+    }
+}
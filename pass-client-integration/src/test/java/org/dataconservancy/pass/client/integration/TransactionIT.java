@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+
+import org.dataconservancy.pass.client.PassClientDefault;
+import org.dataconservancy.pass.client.fedora.FedoraConfig;
+import org.dataconservancy.pass.client.fedora.PassTransaction;
+import org.dataconservancy.pass.model.Deposit;
+import org.dataconservancy.pass.model.Submission;
+import org.junit.Test;
+
+/**
+ * Tests writes made within a transaction
+ */
+public class TransactionIT extends ClientITBase {
+
+    private final PassClientDefault txClient = new PassClientDefault();
+
+    /* Resources created in a committed transaction are visible afterwards, with URIs outside of the transaction */
+    @Test
+    public void commitTest() {
+        URI submissionUri;
+        URI depositUri;
+
+        try (PassTransaction tx = txClient.beginTransaction()) {
+            submissionUri = txClient.createResource(random(Submission.class, 1));
+            Deposit deposit = random(Deposit.class, 1);
+            deposit.setSubmission(submissionUri);
+            depositUri = txClient.createResource(deposit);
+
+            assertEquals(submissionUri, txClient.readResource(depositUri, Deposit.class).getSubmission());
+            tx.commit();
+            assertFalse(tx.isActive());
+        }
+        createdUris.put(submissionUri, Submission.class);
+        createdUris.put(depositUri, Deposit.class);
+
+        assertTrue(submissionUri.toString().startsWith(FedoraConfig.getBaseUrl()));
+        assertFalse(submissionUri.toString().contains("tx:"));
+        assertEquals(submissionUri, client.readResource(depositUri, Deposit.class).getSubmission());
+    }
+
+    /* Resources created in a transaction that is not committed are discarded */
+    @Test
+    public void rollbackOnCloseTest() {
+        URI submissionUri;
+
+        try (PassTransaction tx = txClient.beginTransaction()) {
+            submissionUri = txClient.createResource(random(Submission.class, 1));
+        }
+
+        try {
+            client.readResource(submissionUri, Submission.class);
+            fail("Expected the resource to have been rolled back");
+        } catch (RuntimeException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.dataconservancy.pass.client.BatchUpdateResult;
+import org.dataconservancy.pass.model.Grant;
+import org.junit.Test;
+
+/**
+ * Tests updating many resources at once
+ */
+public class UpdateResourcesIT extends ClientITBase {
+
+    /* All resources are updated */
+    @Test
+    public void updateResourcesTest() {
+        List<Grant> grants = createGrants(10);
+        grants.forEach(grant -> grant.setLocalKey(grant.getId().toString() + "-updated"));
+
+        BatchUpdateResult result = client.updateResources(grants);
+
+        assertTrue(result.isSuccess());
+        assertEquals(10, result.getSucceeded().size());
+        for (Grant grant : grants) {
+            assertEquals(grant.getLocalKey(), client.readResource(grant.getId(), Grant.class).getLocalKey());
+        }
+    }
+
+    /* A resource changed since it was read is reported as a conflict, with its current version tag */
+    @Test
+    public void updateResourcesConflictTest() {
+        List<Grant> grants = createGrants(3);
+
+        Grant changedElsewhere = client.readResource(grants.get(1).getId(), Grant.class);
+        changedElsewhere.setLocalKey("changed elsewhere");
+        client.updateResource(changedElsewhere);
+        String currentVersion = client.readResource(grants.get(1).getId(), Grant.class).getVersionTag();
+
+        grants.forEach(grant -> grant.setLocalKey("batch"));
+        BatchUpdateResult result = client.updateResources(grants);
+
+        assertFalse(result.isSuccess());
+        assertEquals(Arrays.asList(grants.get(0).getId(), grants.get(2).getId()), result.getSucceeded());
+        assertEquals(1, result.getConflicts().size());
+        assertEquals(currentVersion, result.getConflicts().get(grants.get(1).getId()));
+        assertTrue(result.getFailures().isEmpty());
+    }
+
+    /* Two entities with the same URI are refused, rather than racing each other */
+    @Test(expected = IllegalArgumentException.class)
+    public void updateResourcesDuplicateTest() {
+        List<Grant> grants = createGrants(1);
+        grants.add(client.readResource(grants.get(0).getId(), Grant.class));
+
+        client.updateResources(grants);
+    }
+
+    private List<Grant> createGrants(int count) {
+        List<Grant> grants = new ArrayList<Grant>();
+        for (int i = 0; i < count; i++) {
+            URI uri = client.createResource(random(Grant.class, 1));
+            createdUris.put(uri, Grant.class);
+            grants.add(client.readResource(uri, Grant.class));
+        }
+        return grants;
+    }
+}
@@ -16,11 +16,16 @@
 
 package org.dataconservancy.pass.client.util;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * @author Karen Hanson
  */
 public class ConfigUtil {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigUtil.class);
+
     private ConfigUtil() {
     }
 
@@ -44,6 +49,32 @@ public class ConfigUtil {
         return System.getProperty(key, System.getenv().getOrDefault(toEnvName(key), defaultValue));
     }
 
+    /**
+     * Retrieve an integer property, as per {@link #getSystemProperty(String, String)}.
+     * <p>
+     * If the value is not an integer, or is less than {@code minValue}, a warning is logged and the default is used.
+     * </p>
+     *
+     * @param key          - property/variable name in property-normal form (period separators, ideally all lowercas)
+     * @param defaultValue Default value
+     * @param minValue     Smallest acceptable value
+     * @return The value.
+     */
+    public static int getIntegerProperty(final String key, final int defaultValue, final int minValue) {
+        final String value = getSystemProperty(key, Integer.toString(defaultValue));
+        try {
+            final int intValue = Integer.parseInt(value.trim());
+            if (intValue < minValue) {
+                LOG.warn("{} was {}, which is less than {}, using default of {}", key, value, minValue, defaultValue);
+                return defaultValue;
+            }
+            return intValue;
+        } catch (final NumberFormatException e) {
+            LOG.warn("{} was {}, which is not an integer, using default of {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
     static String toEnvName(String name) {
         return name.toUpperCase().replace('.', '_');
     }
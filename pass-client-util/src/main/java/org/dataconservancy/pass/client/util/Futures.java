@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dataconservancy.pass.client.util;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Helpers for {@link CompletableFuture}s
+ */
+public class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * Cancel a future when a future derived from it, e.g. by {@code thenApply} or {@code whenComplete}, is cancelled.
+     * A {@link CompletableFuture} does not pass cancellation back to the future it was derived from, so without this,
+     * cancelling the future given to a caller would leave the underlying request running.
+     *
+     * @param source  future the derived future depends on
+     * @param derived future derived from the source
+     * @param <T>     type of result
+     * @return the derived future
+     */
+    public static <T> CompletableFuture<T> cancelling(CompletableFuture<?> source, CompletableFuture<T> derived) {
+        derived.whenComplete((result, e) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+}
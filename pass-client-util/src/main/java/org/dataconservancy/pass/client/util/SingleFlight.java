@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dataconservancy.pass.client.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent requests for the same key, so that only one is in flight at a time. Callers asking for a key
+ * while a request for it is in flight share that request's result instead of starting another. Once the request
+ * completes, the next caller starts a new one.
+ * <p>
+ * Because the result is shared, each caller is given its own copy of it, made with the copy function provided.
+ * </p>
+ *
+ * @param <K> type of key
+ * @param <V> type of result
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Function<V, V> copy;
+
+    /**
+     * Create a SingleFlight that gives each caller a copy of the shared result
+     *
+     * @param copy makes a copy of a result for a caller
+     */
+    public SingleFlight(Function<V, V> copy) {
+        if (copy == null) {
+            throw new IllegalArgumentException("copy cannot be null");
+        }
+        this.copy = copy;
+    }
+
+    /**
+     * Get the result for a key, joining the request in flight for it if there is one, or starting one with the loader
+     * if not.
+     * <p>
+     * Cancelling the returned future does not affect other callers sharing the request.
+     * </p>
+     *
+     * @param key    key
+     * @param loader starts a request for the key
+     * @return future result, which is a copy of the shared result
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> shared = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, shared);
+
+        if (existing == null) {
+            try {
+                loader.get().whenComplete((value, e) -> {
+                    // no longer in flight, so later callers start a new request
+                    inFlight.remove(key, shared);
+                    if (e != null) {
+                        shared.completeExceptionally(e);
+                    } else {
+                        shared.complete(value);
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.remove(key, shared);
+                shared.completeExceptionally(e);
+            }
+            existing = shared;
+        }
+
+        return existing.thenApply(value -> value == null ? null : copy.apply(value));
+    }
+
+    /**
+     * Number of requests currently in flight
+     *
+     * @return request count
+     */
+    public int size() {
+        return inFlight.size();
+    }
+}
@@ -60,4 +60,20 @@ public class ConfigUtilTest {
 
         assertEquals(VALUE, ConfigUtil.getSystemProperty(KEY, null));
     }
+
+    @Test
+    public void getIntegerPropertyTest() {
+        final String KEY = "test" + "." + testName.getMethodName();
+
+        assertEquals(5, ConfigUtil.getIntegerProperty(KEY, 5, 1));
+
+        System.setProperty(KEY, "12");
+        assertEquals(12, ConfigUtil.getIntegerProperty(KEY, 5, 1));
+
+        System.setProperty(KEY, "0");
+        assertEquals(5, ConfigUtil.getIntegerProperty(KEY, 5, 1));
+
+        System.setProperty(KEY, "moo");
+        assertEquals(5, ConfigUtil.getIntegerProperty(KEY, 5, 1));
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dataconservancy.pass.client.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<String, List<String>> singleFlight = new SingleFlight<>(ArrayList::new);
+
+    /**
+     * Callers asking for the same key while a request is in flight share it, each getting its own copy
+     */
+    @Test
+    public void concurrentCallersShareRequestTest() {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<List<String>> request = new CompletableFuture<>();
+
+        CompletableFuture<List<String>> first = singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return request;
+        });
+        CompletableFuture<List<String>> second = singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        assertEquals(1, singleFlight.size());
+
+        List<String> result = new ArrayList<>(Arrays.asList("moo"));
+        request.complete(result);
+
+        assertEquals(1, loads.get());
+        assertEquals(result, first.join());
+        assertEquals(result, second.join());
+        assertNotSame(result, first.join());
+        assertNotSame(first.join(), second.join());
+        assertEquals(0, singleFlight.size());
+    }
+
+    /**
+     * Once a request completes, the next caller starts a new one
+     */
+    @Test
+    public void completedRequestIsNotSharedTest() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }).join();
+        singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }).join();
+
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Different keys do not share requests
+     */
+    @Test
+    public void differentKeysTest() {
+        CompletableFuture<List<String>> request = new CompletableFuture<>();
+        singleFlight.execute("key1", () -> request);
+        singleFlight.execute("key2", () -> request);
+
+        assertEquals(2, singleFlight.size());
+    }
+
+    /**
+     * A failure is reported to every caller sharing the request, and a loader that throws does not leave the key in
+     * flight
+     */
+    @Test
+    public void failureTest() {
+        IllegalStateException failure = new IllegalStateException("moo");
+        CompletableFuture<List<String>> request = new CompletableFuture<>();
+
+        CompletableFuture<List<String>> first = singleFlight.execute("key", () -> request);
+        CompletableFuture<List<String>> second = singleFlight.execute("key", () -> request);
+        request.completeExceptionally(failure);
+
+        for (CompletableFuture<List<String>> future : Arrays.asList(first, second)) {
+            try {
+                future.join();
+                fail("Expected the request to fail");
+            } catch (CompletionException e) {
+                assertSame(failure, e.getCause());
+            }
+        }
+
+        CompletableFuture<List<String>> thrown = singleFlight.execute("key", () -> {
+            throw failure;
+        });
+        assertTrue(thrown.isCompletedExceptionally());
+        assertEquals(0, singleFlight.size());
+    }
+
+    /**
+     * Cancelling one caller's future does not cancel the shared request
+     */
+    @Test
+    public void cancelDoesNotAffectOthersTest() {
+        CompletableFuture<List<String>> request = new CompletableFuture<>();
+
+        CompletableFuture<List<String>> first = singleFlight.execute("key", () -> request);
+        CompletableFuture<List<String>> second = singleFlight.execute("key", () -> request);
+        first.cancel(true);
+        request.complete(new ArrayList<>());
+
+        assertTrue(first.isCancelled());
+        assertEquals(new ArrayList<>(), second.join());
+    }
+}
@@ -15,25 +15,51 @@
  */
 package org.dataconservancy.pass.client;
 
+import static org.dataconservancy.pass.client.util.Futures.cancelling;
+
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.dataconservancy.pass.client.elasticsearch.ElasticsearchPassClient;
+import org.dataconservancy.pass.client.elasticsearch.QueryCache;
+import org.dataconservancy.pass.client.elasticsearch.RecentWrites;
+import org.dataconservancy.pass.client.fedora.EntityCache;
 import org.dataconservancy.pass.client.fedora.FedoraPassCrudClient;
+import org.dataconservancy.pass.client.fedora.PassTransaction;
 import org.dataconservancy.pass.model.PassEntity;
+import org.joda.time.DateTime;
 
 /**
  * Creates instances of objects needed to perform PassClient requirements, and redirects to appropriate
  * service (Index client or CRUD client)
+ * <p>
+ * Connections to Fedora and the index are pooled and reused for the life of the client; long-lived applications
+ * should reuse a single instance, and {@link #close()} it when done. Clients from {@link PassClientFactory} share
+ * their connections instead, which are released by {@link PassClientFactory#shutdown()}.
+ * </p>
+ * <p>
+ * The {@link AsyncPassClient} methods issue the same requests without blocking the calling thread; the number of
+ * concurrent Fedora requests is bounded by {@code pass.fedora.max.requests} and
+ * {@code pass.fedora.max.requests.per.host}.
+ * </p>
  *
  * @author Karen Hanson
  */
-public class PassClientDefault implements PassClient {
+public class PassClientDefault implements PassClient, PassIndexClient, AsyncPassClient, Closeable {
 
     /**
      * Client that interacts with Fedora repo to carry out CRUD operations
@@ -45,12 +71,40 @@ public class PassClientDefault implements PassClient {
      */
     private ElasticsearchPassClient indexClient;
 
+    /**
+     * Whether the underlying clients are shared with other instances, and so are not closed with this one
+     */
+    private final boolean shared;
+
     /**
      * Create a default pass client, with default configuration.
      */
     public PassClientDefault() {
-        crudClient = new FedoraPassCrudClient();
-        indexClient = new ElasticsearchPassClient();
+        this(new FedoraPassCrudClient(), new ElasticsearchPassClient(), false);
+    }
+
+    /**
+     * Create a pass client from the clients given, for example to make Fedora requests through an OkHttpClient of the
+     * caller's choosing. The clients are closed when this one is.
+     *
+     * @param crudClient  Fedora client
+     * @param indexClient index client
+     */
+    public PassClientDefault(FedoraPassCrudClient crudClient, ElasticsearchPassClient indexClient) {
+        this(crudClient, indexClient, false);
+    }
+
+    /**
+     * Create a pass client from the clients given
+     *
+     * @param crudClient  Fedora client
+     * @param indexClient index client
+     * @param shared      true if the clients are shared with other instances, so are not closed with this one
+     */
+    PassClientDefault(FedoraPassCrudClient crudClient, ElasticsearchPassClient indexClient, boolean shared) {
+        this.crudClient = crudClient;
+        this.indexClient = indexClient;
+        this.shared = shared;
     }
 
     /**
@@ -64,17 +118,119 @@ public class PassClientDefault implements PassClient {
         return this;
     }
 
+    /**
+     * Sets the maximum number of requests a batch operation such as {@link #readResources(Collection, Class)} keeps
+     * in flight at once. Batch creates keep this many in flight for each container.
+     *
+     * @param batchParallelism - maximum number of concurrent requests, must be at least 1
+     * @return this client
+     */
+    public PassClientDefault batchParallelism(int batchParallelism) {
+        this.crudClient.batchParallelism(batchParallelism);
+        return this;
+    }
+
+    /**
+     * The cache of entities read by this client, for example to inspect its hit and miss counts. The cache is enabled
+     * by setting {@code pass.fedora.cache.size}.
+     *
+     * @return the cache, or {@code null} if caching is disabled
+     */
+    public EntityCache getEntityCache() {
+        return crudClient.getEntityCache();
+    }
+
+    /**
+     * The cache of index search results, for example to inspect its hit and miss counts. The cache is enabled by
+     * setting {@code pass.elasticsearch.cache.size}. Creates, updates and deletes made through this client discard
+     * the cached results they may affect, but the time-to-live still bounds how out of date a result can be.
+     *
+     * @return the cache, or {@code null} if caching is disabled
+     */
+    public QueryCache getQueryCache() {
+        return indexClient.getQueryCache();
+    }
+
+    /**
+     * The log of recent writes made through this client, which corrects the results of index searches until the
+     * index shows the writes. This means that an entity can be found by {@link #findByAttribute(Class, String, Object)}
+     * straight after it is created, without waiting for the index. The log is enabled by setting
+     * {@code pass.elasticsearch.recent.writes.size}.
+     *
+     * @return the log, or {@code null} if disabled
+     */
+    public RecentWrites getRecentWrites() {
+        return indexClient.getRecentWrites();
+    }
+
+    /**
+     * Begin a repository transaction. Until it is committed or rolled back, every create, read, update, delete and
+     * upload made by this client from the current thread goes through the transaction.
+     *
+     * @return the transaction, which rolls back on close unless committed
+     * @see FedoraPassCrudClient#beginTransaction()
+     */
+    public PassTransaction beginTransaction() {
+        return crudClient.beginTransaction();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public URI createResource(PassEntity modelObj) {
-        return crudClient.createResource(modelObj);
+        PassTransaction tx = crudClient.currentTransaction();
+        try {
+            URI uri = crudClient.createResource(modelObj);
+            remember(tx, uri, modelObj);
+            return uri;
+        } finally {
+            written(tx, modelObj);
+        }
     }
 
     @Override
     public <T extends PassEntity> T createAndReadResource(T modelObj, Class<T> modelClass) {
-        return crudClient.createAndReadResource(modelObj, modelClass);
+        PassTransaction tx = crudClient.currentTransaction();
+        try {
+            T created = crudClient.createAndReadResource(modelObj, modelClass);
+            remember(tx, created.getId(), created);
+            return created;
+        } finally {
+            written(tx, modelObj);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BatchResult<URI>> createResources(List<? extends PassEntity> modelObjs) {
+        PassTransaction tx = crudClient.currentTransaction();
+        try {
+            List<BatchResult<URI>> results = crudClient.createResources(modelObjs);
+            results.stream().filter(BatchResult::isSuccess).forEach(r -> remember(tx, r.getValue(), r.getEntity()));
+            return results;
+        } finally {
+            written(tx, modelObjs);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> List<BatchResult<T>> createAndReadResources(List<T> modelObjs,
+                                                                             Class<T> modelClass) {
+        PassTransaction tx = crudClient.currentTransaction();
+        try {
+            List<BatchResult<T>> results = crudClient.createAndReadResources(modelObjs, modelClass);
+            results.stream().filter(BatchResult::isSuccess)
+                   .forEach(r -> remember(tx, r.getValue().getId(), r.getValue()));
+            return results;
+        } finally {
+            written(tx, modelObjs);
+        }
     }
 
     /**
@@ -82,12 +238,42 @@ public class PassClientDefault implements PassClient {
      */
     @Override
     public void updateResource(PassEntity modelObj) {
-        crudClient.updateResource(modelObj);
+        PassTransaction tx = crudClient.currentTransaction();
+        try {
+            crudClient.updateResource(modelObj);
+            remember(tx, modelObj.getId(), modelObj);
+        } finally {
+            written(tx, modelObj);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BatchUpdateResult updateResources(Collection<? extends PassEntity> modelObjs) {
+        PassTransaction tx = crudClient.currentTransaction();
+        try {
+            BatchUpdateResult result = crudClient.updateResources(modelObjs);
+            Set<URI> succeeded = new HashSet<>(result.getSucceeded());
+            modelObjs.stream().filter(e -> e != null && succeeded.contains(e.getId()))
+                     .forEach(e -> remember(tx, e.getId(), e));
+            return result;
+        } finally {
+            written(tx, modelObjs);
+        }
     }
 
     @Override
     public <T extends PassEntity> T updateAndReadResource(T modelObj, Class<T> modelClass) {
-        return crudClient.updateAndReadResource(modelObj, modelClass);
+        PassTransaction tx = crudClient.currentTransaction();
+        try {
+            T updated = crudClient.updateAndReadResource(modelObj, modelClass);
+            remember(tx, updated.getId(), updated);
+            return updated;
+        } finally {
+            written(tx, modelObj);
+        }
     }
 
     /**
@@ -95,7 +281,13 @@ public class PassClientDefault implements PassClient {
      */
     @Override
     public void deleteResource(URI modelObj) {
-        crudClient.deleteResource(modelObj);
+        PassTransaction tx = crudClient.currentTransaction();
+        try {
+            crudClient.deleteResource(modelObj);
+            forget(tx, modelObj);
+        } finally {
+            deleted(tx, modelObj);
+        }
     }
 
     /**
@@ -106,6 +298,14 @@ public class PassClientDefault implements PassClient {
         return crudClient.readResource(uri, modelClass);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> Map<URI, T> readResources(Collection<URI> uris, Class<T> modelClass) {
+        return crudClient.readResources(uris, modelClass);
+    }
+
     @Override
     public Map<String, Collection<URI>> getIncoming(URI passEntity) {
         return crudClient.getIncoming(passEntity);
@@ -168,6 +368,132 @@ public class PassClientDefault implements PassClient {
         return indexClient.findAllByAttributes(modelClass, valueAttributesMap, limit, offset);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<AttributeQueryResult> findEachByAttribute(List<AttributeQuery> queries) {
+        return indexClient.findEachByAttribute(queries);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> Map<Object, Set<URI>> findAllByAttributeIn(Class<T> modelClass, String attribute,
+                                                                           Collection<?> values) {
+        return indexClient.findAllByAttributeIn(modelClass, attribute, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> long countByAttributes(Class<T> modelClass,
+                                                         Map<String, Object> valueAttributesMap) {
+        return indexClient.countByAttributes(modelClass, valueAttributesMap);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> boolean existsByAttributes(Class<T> modelClass,
+                                                             Map<String, Object> valueAttributesMap) {
+        return indexClient.existsByAttributes(modelClass, valueAttributesMap);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> Map<String, Long> countByAttributeValue(Class<T> modelClass,
+                                                                          Map<String, Object> filters,
+                                                                          String attribute) {
+        return indexClient.countByAttributeValue(modelClass, filters, attribute);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> SortedMap<DateTime, Long> countByDate(Class<T> modelClass,
+                                                                       Map<String, Object> filters,
+                                                                       String dateAttribute, DateInterval interval) {
+        return indexClient.countByDate(modelClass, filters, dateAttribute, interval);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> long countDistinct(Class<T> modelClass, Map<String, Object> filters,
+                                                     String attribute) {
+        return indexClient.countDistinct(modelClass, filters, attribute);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> List<T> findAllEntitiesByAttribute(Class<T> modelClass, String attribute,
+                                                                     Object value) {
+        return indexClient.findAllEntitiesByAttribute(modelClass, attribute, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> List<T> findAllEntitiesByAttributes(Class<T> modelClass,
+                                                                      Map<String, Object> valueAttributesMap) {
+        return indexClient.findAllEntitiesByAttributes(modelClass, valueAttributesMap);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> List<T> findAllEntitiesByAttributes(Class<T> modelClass,
+                                                                      Map<String, Object> valueAttributesMap,
+                                                                      int limit, int offset) {
+        return indexClient.findAllEntitiesByAttributes(modelClass, valueAttributesMap, limit, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> Set<URI> findAllByCriteria(Class<T> modelClass, IndexCriteria criteria) {
+        return indexClient.findAllByCriteria(modelClass, criteria);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> Set<URI> findAllByCriteria(Class<T> modelClass, IndexCriteria criteria, int limit,
+                                                             int offset) {
+        return indexClient.findAllByCriteria(modelClass, criteria, limit, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> Stream<URI> streamAllByCriteria(Class<T> modelClass, IndexCriteria criteria) {
+        return indexClient.streamAllByCriteria(modelClass, criteria);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> Stream<URI> streamAllByAttributes(Class<T> modelClass,
+                                                                    Map<String, Object> valueAttributesMap) {
+        return indexClient.streamAllByAttributes(modelClass, valueAttributesMap);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -175,4 +501,246 @@ public class PassClientDefault implements PassClient {
     public <T extends PassEntity> int processAllEntities(Consumer<URI> processor, Class<T> modelClass) {
         return crudClient.processAllEntities(processor, modelClass);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<URI> createResourceAsync(PassEntity modelObj) {
+        PassTransaction tx = crudClient.currentTransaction();
+        CompletableFuture<URI> request = crudClient.createResourceAsync(modelObj);
+        return cancelling(request, request.whenComplete((uri, e) -> {
+            if (e == null) {
+                remember(tx, uri, modelObj);
+            }
+            written(tx, modelObj);
+        }));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> CompletableFuture<T> createAndReadResourceAsync(T modelObj, Class<T> modelClass) {
+        PassTransaction tx = crudClient.currentTransaction();
+        CompletableFuture<T> request = crudClient.createAndReadResourceAsync(modelObj, modelClass);
+        return cancelling(request, request.whenComplete((created, e) -> {
+            if (e == null) {
+                remember(tx, created.getId(), created);
+            }
+            written(tx, modelObj);
+        }));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> updateResourceAsync(PassEntity modelObj) {
+        PassTransaction tx = crudClient.currentTransaction();
+        CompletableFuture<Void> request = crudClient.updateResourceAsync(modelObj);
+        return cancelling(request, request.whenComplete((v, e) -> {
+            if (e == null) {
+                remember(tx, modelObj.getId(), modelObj);
+            }
+            written(tx, modelObj);
+        }));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> CompletableFuture<T> updateAndReadResourceAsync(T modelObj, Class<T> modelClass) {
+        PassTransaction tx = crudClient.currentTransaction();
+        CompletableFuture<T> request = crudClient.updateAndReadResourceAsync(modelObj, modelClass);
+        return cancelling(request, request.whenComplete((updated, e) -> {
+            if (e == null) {
+                remember(tx, updated.getId(), updated);
+            }
+            written(tx, modelObj);
+        }));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> deleteResourceAsync(URI uri) {
+        PassTransaction tx = crudClient.currentTransaction();
+        CompletableFuture<Void> request = crudClient.deleteResourceAsync(uri);
+        return cancelling(request, request.whenComplete((v, e) -> {
+            if (e == null) {
+                forget(tx, uri);
+            }
+            deleted(tx, uri);
+        }));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> CompletableFuture<T> readResourceAsync(URI uri, Class<T> modelClass) {
+        return crudClient.readResourceAsync(uri, modelClass);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> CompletableFuture<URI> findByAttributeAsync(Class<T> modelClass, String attribute,
+                                                                            Object value) {
+        return indexClient.findByAttributeAsync(modelClass, attribute, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributeAsync(Class<T> modelClass,
+                                                                                    String attribute, Object value) {
+        return indexClient.findAllByAttributeAsync(modelClass, attribute, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributeAsync(Class<T> modelClass,
+                                                                                    String attribute, Object value,
+                                                                                    int limit, int offset) {
+        return indexClient.findAllByAttributeAsync(modelClass, attribute, value, limit, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributesAsync(Class<T> modelClass,
+                                                                                     Map<String, Object>
+                                                                                         valueAttributesMap) {
+        return indexClient.findAllByAttributesAsync(modelClass, valueAttributesMap);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributesAsync(Class<T> modelClass,
+                                                                                     Map<String, Object>
+                                                                                         valueAttributesMap,
+                                                                                     int limit, int offset) {
+        return indexClient.findAllByAttributesAsync(modelClass, valueAttributesMap, limit, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Map<String, Collection<URI>>> getIncomingAsync(URI passEntity) {
+        return crudClient.getIncomingAsync(passEntity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<URI> uploadAsync(URI entityUri, InputStream content) {
+        return uploadAsync(entityUri, content, Collections.emptyMap());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<URI> uploadAsync(URI entityUri, InputStream content, Map<String, ?> params) {
+        return crudClient.uploadAsync(entityUri, content, params);
+    }
+
+    /**
+     * Releases the threads and pooled connections held by the Fedora and index clients. Has no effect on a client
+     * from {@link PassClientFactory}, whose connections are shared.
+     *
+     * @throws IOException if the index client could not be closed cleanly
+     */
+    @Override
+    public void close() throws IOException {
+        if (shared) {
+            return;
+        }
+        try {
+            crudClient.close();
+        } finally {
+            indexClient.close();
+        }
+    }
+
+    /**
+     * Discard cached search results for the type of an entity that has been created or updated. A write made in a
+     * transaction only becomes visible once it is committed, so the results are discarded again then.
+     */
+    private void written(PassTransaction tx, PassEntity modelObj) {
+        if (modelObj != null) {
+            written(tx, Collections.singleton(modelObj));
+        }
+    }
+
+    private void written(PassTransaction tx, Collection<? extends PassEntity> modelObjs) {
+        QueryCache queryCache = indexClient.getQueryCache();
+        if (queryCache != null && modelObjs != null) {
+            List<Class<? extends PassEntity>> types = modelObjs.stream().filter(Objects::nonNull)
+                                                               .map(PassEntity::getClass).distinct()
+                                                               .collect(Collectors.toList());
+            types.forEach(queryCache::invalidate);
+            if (tx != null) {
+                tx.onCommit(() -> types.forEach(queryCache::invalidate));
+            }
+        }
+    }
+
+    /**
+     * Record a successful create or update, so that searches find the entity as written until the index shows it.
+     * A write in a transaction is only recorded once the transaction is committed, as it may yet be rolled back.
+     */
+    private void remember(PassTransaction tx, URI uri, PassEntity entity) {
+        RecentWrites recentWrites = indexClient.getRecentWrites();
+        if (recentWrites != null && uri != null) {
+            Runnable record = recentWrites.prepareWritten(uri, entity);
+            if (tx != null) {
+                tx.onCommit(record);
+            } else {
+                record.run();
+            }
+        }
+    }
+
+    /**
+     * Record a successful delete, so that searches no longer find the entity, once the transaction it was made in,
+     * if any, is committed
+     */
+    private void forget(PassTransaction tx, URI uri) {
+        RecentWrites recentWrites = indexClient.getRecentWrites();
+        if (recentWrites != null && uri != null) {
+            if (tx != null) {
+                tx.onCommit(() -> recentWrites.deleted(uri));
+            } else {
+                recentWrites.deleted(uri);
+            }
+        }
+    }
+
+    /**
+     * Discard cached search results that found an entity that has been deleted, and again once the transaction the
+     * delete was made in is committed
+     */
+    private void deleted(PassTransaction tx, URI uri) {
+        QueryCache queryCache = indexClient.getQueryCache();
+        if (queryCache != null && uri != null) {
+            queryCache.invalidate(uri);
+            if (tx != null) {
+                tx.onCommit(() -> queryCache.invalidate(uri));
+            }
+        }
+    }
 }
@@ -16,13 +16,34 @@
 
 package org.dataconservancy.pass.client;
 
+import java.io.IOException;
+
+import org.dataconservancy.pass.client.elasticsearch.ElasticsearchPassClient;
+import org.dataconservancy.pass.client.fedora.FedoraPassCrudClient;
+
 /**
  * PASS client factory.
+ * <p>
+ * The clients provided share one pool of connections to Fedora and one to the index, however many are requested, so
+ * callers need not close them. They also share the cache of entities read from Fedora, and the cache and recent
+ * writes of the index client. {@link #shutdown()} releases the shared connections.
+ * </p>
  *
  * @author Karen Hanson
  */
 public class PassClientFactory {
 
+    /**
+     * Index client shared by every client provided, created on first use
+     */
+    private static ElasticsearchPassClient indexClient;
+
+    /**
+     * Fedora client whose connections, entity cache and reads in flight are shared by every client provided, created
+     * on first use
+     */
+    private static FedoraPassCrudClient crudClient;
+
     private PassClientFactory() {
     }
 
@@ -35,7 +56,7 @@ public class PassClientFactory {
      * @return PASS client
      */
     public static PassClient getPassClient() {
-        return new PassClientDefault();
+        return newClient();
     }
 
     /**
@@ -52,7 +73,55 @@ public class PassClientFactory {
      * @return PASS client
      */
     public static PassClient getPassClient(boolean overwriteOnUpdate) {
-        return new PassClientDefault().overWriteOnUpdate(overwriteOnUpdate);
+        return newClient().overWriteOnUpdate(overwriteOnUpdate);
+    }
+
+    /**
+     * Provide an instance of an AsyncPassClient.
+     * <p>
+     * Defaults to overwriteOnUpdate = false.
+     * </p>
+     *
+     * @return asynchronous PASS client
+     */
+    public static AsyncPassClient getAsyncPassClient() {
+        return newClient();
+    }
+
+    /**
+     * Provide an instance of a PassIndexClient, for searches and aggregations that only the index can answer.
+     *
+     * @return PASS index client
+     */
+    public static PassIndexClient getPassIndexClient() {
+        return newClient();
+    }
+
+    /**
+     * Release the connections shared by the clients provided so far, which can no longer be used. Clients provided
+     * afterwards use new connections.
+     *
+     * @throws IOException if the index client could not be closed cleanly
+     */
+    public static synchronized void shutdown() throws IOException {
+        if (indexClient == null) {
+            return;
+        }
+        try {
+            crudClient.close();
+            indexClient.close();
+        } finally {
+            indexClient = null;
+            crudClient = null;
+        }
+    }
+
+    private static synchronized PassClientDefault newClient() {
+        if (indexClient == null) {
+            indexClient = new ElasticsearchPassClient();
+            crudClient = new FedoraPassCrudClient();
+        }
+        return new PassClientDefault(crudClient.newSharingClient(), indexClient, true);
     }
 
 }
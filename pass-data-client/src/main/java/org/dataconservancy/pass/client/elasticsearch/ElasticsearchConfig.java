@@ -17,10 +17,11 @@ package org.dataconservancy.pass.client.elasticsearch;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.dataconservancy.pass.client.util.ConfigUtil;
+import org.dataconservancy.pass.model.PassEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +43,48 @@ public class ElasticsearchConfig {
     private static final String INDEXER_LIMIT_KEY = "pass.elasticsearch.limit";
     private static final Integer DEFAULT_INDEXER_LIMIT = 200;
 
+    private static final String MAX_CONNECTIONS_KEY = "pass.elasticsearch.max.connections";
+    private static final Integer DEFAULT_MAX_CONNECTIONS = 30;
+
+    private static final String MAX_CONNECTIONS_PER_ROUTE_KEY = "pass.elasticsearch.max.connections.per.route";
+    private static final Integer DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 10;
+
+    private static final String KEEPALIVE_MS_KEY = "pass.elasticsearch.keepalive.ms";
+    private static final Integer DEFAULT_KEEPALIVE_MS = 60000;
+
+    private static final String IO_THREADS_KEY = "pass.elasticsearch.io.threads";
+    private static final Integer DEFAULT_IO_THREADS = Runtime.getRuntime().availableProcessors();
+
+    private static final String SCROLL_SIZE_KEY = "pass.elasticsearch.scroll.size";
+    private static final Integer DEFAULT_SCROLL_SIZE = 1000;
+
+    private static final String SCROLL_KEEPALIVE_SECONDS_KEY = "pass.elasticsearch.scroll.keepalive.seconds";
+    private static final Integer DEFAULT_SCROLL_KEEPALIVE_SECONDS = 60;
+
+    private static final String TERMS_CHUNK_SIZE_KEY = "pass.elasticsearch.terms.chunk.size";
+    private static final Integer DEFAULT_TERMS_CHUNK_SIZE = 1000;
+
+    private static final String AGGREGATION_SIZE_KEY = "pass.elasticsearch.aggregation.size";
+    private static final Integer DEFAULT_AGGREGATION_SIZE = 1000;
+
+    private static final String SNIFF_INTERVAL_SECONDS_KEY = "pass.elasticsearch.sniff.interval.seconds";
+    private static final Integer DEFAULT_SNIFF_INTERVAL_SECONDS = 0;
+
+    private static final String SNIFF_AFTER_FAILURE_SECONDS_KEY = "pass.elasticsearch.sniff.after.failure.seconds";
+    private static final Integer DEFAULT_SNIFF_AFTER_FAILURE_SECONDS = 60;
+
+    private static final String CACHE_SIZE_KEY = "pass.elasticsearch.cache.size";
+    private static final Integer DEFAULT_CACHE_SIZE = 0;
+
+    private static final String CACHE_TTL_KEY = "pass.elasticsearch.cache.ttl.seconds";
+    private static final Integer DEFAULT_CACHE_TTL = 60;
+
+    private static final String RECENT_WRITES_SIZE_KEY = "pass.elasticsearch.recent.writes.size";
+    private static final Integer DEFAULT_RECENT_WRITES_SIZE = 0;
+
+    private static final String RECENT_WRITES_SECONDS_KEY = "pass.elasticsearch.recent.writes.seconds";
+    private static final Integer DEFAULT_RECENT_WRITES_SECONDS = 60;
+
     private ElasticsearchConfig() {
     }
 
@@ -51,7 +94,7 @@ public class ElasticsearchConfig {
      * @return host URLs.
      */
     public static Set<URL> getIndexerHostUrl() {
-        Set<URL> urls = new HashSet<URL>();
+        Set<URL> urls = new LinkedHashSet<URL>();
 
         String sUrls = ConfigUtil.getSystemProperty(INDEXER_URL_KEY, DEFAULT_INDEXER_URL);
         String[] arrUrl = sUrls.split(",");
@@ -106,4 +149,148 @@ public class ElasticsearchConfig {
         return limit;
     }
 
+    /**
+     * Get the maximum number of pooled connections to the indexer, across all hosts. Defaults to
+     * DEFAULT_MAX_CONNECTIONS if not set
+     *
+     * @return maximum number of connections
+     */
+    public static Integer getMaxConnections() {
+        return ConfigUtil.getIntegerProperty(MAX_CONNECTIONS_KEY, DEFAULT_MAX_CONNECTIONS, 1);
+    }
+
+    /**
+     * Get the maximum number of pooled connections to any single indexer host. Defaults to
+     * DEFAULT_MAX_CONNECTIONS_PER_ROUTE if not set
+     *
+     * @return maximum number of connections per host
+     */
+    public static Integer getMaxConnectionsPerRoute() {
+        return ConfigUtil.getIntegerProperty(MAX_CONNECTIONS_PER_ROUTE_KEY, DEFAULT_MAX_CONNECTIONS_PER_ROUTE, 1);
+    }
+
+    /**
+     * Get the time, in milliseconds, that an idle pooled connection to the indexer may be kept alive when the
+     * indexer does not say otherwise. Defaults to DEFAULT_KEEPALIVE_MS if not set
+     *
+     * @return keep-alive in milliseconds
+     */
+    public static Integer getKeepAliveMillis() {
+        return ConfigUtil.getIntegerProperty(KEEPALIVE_MS_KEY, DEFAULT_KEEPALIVE_MS, 1);
+    }
+
+    /**
+     * Get the number of I/O dispatcher threads used by the indexer client. Defaults to the number of available
+     * processors if not set
+     *
+     * @return number of I/O threads
+     */
+    public static Integer getIoThreadCount() {
+        return ConfigUtil.getIntegerProperty(IO_THREADS_KEY, DEFAULT_IO_THREADS, 1);
+    }
+
+    /**
+     * Get the number of results retrieved in each page when streaming all results of a search. Defaults to
+     * DEFAULT_SCROLL_SIZE if not set
+     *
+     * @return page size
+     */
+    public static Integer getScrollSize() {
+        return ConfigUtil.getIntegerProperty(SCROLL_SIZE_KEY, DEFAULT_SCROLL_SIZE, 1);
+    }
+
+    /**
+     * Get the time, in seconds, that the indexer keeps a streamed search open between pages. Defaults to
+     * DEFAULT_SCROLL_KEEPALIVE_SECONDS if not set
+     *
+     * @return keep-alive in seconds
+     */
+    public static Integer getScrollKeepAliveSeconds() {
+        return ConfigUtil.getIntegerProperty(SCROLL_KEEPALIVE_SECONDS_KEY, DEFAULT_SCROLL_KEEPALIVE_SECONDS, 1);
+    }
+
+    /**
+     * Get the maximum number of values searched for in a single query when searching for many values of an
+     * attribute at once. Defaults to DEFAULT_TERMS_CHUNK_SIZE if not set
+     *
+     * @return maximum values per query
+     */
+    public static Integer getTermsChunkSize() {
+        return ConfigUtil.getIntegerProperty(TERMS_CHUNK_SIZE_KEY, DEFAULT_TERMS_CHUNK_SIZE, 1);
+    }
+
+    /**
+     * Get the maximum number of distinct values returned when counting entities by the value of an attribute.
+     * Defaults to DEFAULT_AGGREGATION_SIZE if not set
+     *
+     * @return maximum number of values
+     */
+    public static Integer getAggregationSize() {
+        return ConfigUtil.getIntegerProperty(AGGREGATION_SIZE_KEY, DEFAULT_AGGREGATION_SIZE, 1);
+    }
+
+    /**
+     * Get the time, in seconds, between requests to the cluster for the nodes to send queries to. Defaults to
+     * DEFAULT_SNIFF_INTERVAL_SECONDS if not set; 0 disables discovery, so only the configured hosts are used
+     *
+     * @return interval in seconds
+     */
+    public static Integer getSniffIntervalSeconds() {
+        return ConfigUtil.getIntegerProperty(SNIFF_INTERVAL_SECONDS_KEY, DEFAULT_SNIFF_INTERVAL_SECONDS, 0);
+    }
+
+    /**
+     * Get the time, in seconds, until the nodes are requested again after a request made because a node failed.
+     * Defaults to DEFAULT_SNIFF_AFTER_FAILURE_SECONDS if not set
+     *
+     * @return delay in seconds
+     */
+    public static Integer getSniffAfterFailureSeconds() {
+        return ConfigUtil.getIntegerProperty(SNIFF_AFTER_FAILURE_SECONDS_KEY, DEFAULT_SNIFF_AFTER_FAILURE_SECONDS, 1);
+    }
+
+    /**
+     * Get the maximum number of search results held in the client-side query cache; 0 disables the cache. Defaults
+     * to DEFAULT_CACHE_SIZE if not set
+     *
+     * @return maximum number of cached results
+     */
+    public static Integer getCacheSize() {
+        return ConfigUtil.getIntegerProperty(CACHE_SIZE_KEY, DEFAULT_CACHE_SIZE, 0);
+    }
+
+    /**
+     * Get how long, in seconds, the results of a search for a type of entity are held in the query cache. This is
+     * set for a type by appending its name to the key, e.g. pass.elasticsearch.cache.ttl.seconds.Journal, and
+     * otherwise defaults to the value of pass.elasticsearch.cache.ttl.seconds, or DEFAULT_CACHE_TTL if that is not
+     * set
+     *
+     * @param modelClass type of entity
+     * @return time-to-live of cached results in seconds
+     */
+    public static Integer getCacheTtlSeconds(Class<? extends PassEntity> modelClass) {
+        int ttl = ConfigUtil.getIntegerProperty(CACHE_TTL_KEY, DEFAULT_CACHE_TTL, 1);
+        return ConfigUtil.getIntegerProperty(CACHE_TTL_KEY + "." + modelClass.getSimpleName(), ttl, 1);
+    }
+
+    /**
+     * Get the maximum number of recent writes used to correct search results until the index shows them; 0 disables
+     * this. Defaults to DEFAULT_RECENT_WRITES_SIZE if not set
+     *
+     * @return maximum number of writes remembered
+     */
+    public static Integer getRecentWritesSize() {
+        return ConfigUtil.getIntegerProperty(RECENT_WRITES_SIZE_KEY, DEFAULT_RECENT_WRITES_SIZE, 0);
+    }
+
+    /**
+     * Get how long, in seconds, a write is used to correct search results, which should be longer than the index
+     * usually takes to show a write. Defaults to DEFAULT_RECENT_WRITES_SECONDS if not set
+     *
+     * @return time a write is remembered in seconds
+     */
+    public static Integer getRecentWritesSeconds() {
+        return ConfigUtil.getIntegerProperty(RECENT_WRITES_SECONDS_KEY, DEFAULT_RECENT_WRITES_SECONDS, 1);
+    }
+
 }
@@ -17,60 +17,132 @@ package org.dataconservancy.pass.client.elasticsearch;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import org.apache.http.HttpHost;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
+import org.dataconservancy.pass.client.AttributeQuery;
+import org.dataconservancy.pass.client.AttributeQueryResult;
+import org.dataconservancy.pass.client.DateInterval;
+import org.dataconservancy.pass.client.IndexCriteria;
+import org.dataconservancy.pass.client.PassIndexClient;
+import org.dataconservancy.pass.client.PassJsonAdapter;
+import org.dataconservancy.pass.client.adapter.PassJsonAdapterBasic;
 import org.dataconservancy.pass.model.PassEntity;
 import org.dataconservancy.pass.model.PassEntityType;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.NodeSelector;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.index.query.Operator;
-import org.elasticsearch.index.query.QueryStringQueryBuilder;
+import org.elasticsearch.client.core.CountRequest;
+import org.elasticsearch.common.Strings;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.aggregations.Aggregation;
+import org.elasticsearch.search.aggregations.AggregationBuilder;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.elasticsearch.search.aggregations.bucket.histogram.Histogram;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.aggregations.metrics.cardinality.Cardinality;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
+import org.elasticsearch.search.sort.FieldSortBuilder;
+import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.ReadableInstant;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Communicates with elasticsearch
+ * <p>
+ * A single underlying client, and its pool of connections to the indexer, is shared by all queries made through an
+ * instance of this class. The client is created on first use and holds open connections and I/O threads until
+ * {@link #close()} is called.
+ * </p>
  *
  * @author Karen Hanson
  */
-public class ElasticsearchPassClient {
+public class ElasticsearchPassClient implements PassIndexClient, Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchPassClient.class);
 
+    private static final String ID_FIELDNAME = "@id";
+
+    private static final String TYPE_FIELDNAME = "@type";
+
+    private static final String AGGREGATION_NAME = "counts";
+
     /**
-     * Template for a search attribute e.g. AND fldname:"something"
+     * Order of search results requested a page at a time with a limit and offset. Filter queries give every match the
+     * same score, so without a sort the order can differ between requests, and pages taken with an offset can overlap
+     * or miss results. {@code @id} is indexed as a keyword, so can be sorted on.
      */
-    private static final String QS_ATTRIB_TEMPLATE = " AND %s:\"%s\"";
+    private static final List<SortBuilder<?>> BY_ID = singletonList(SortBuilders.fieldSort(ID_FIELDNAME));
 
     /**
-     * Template for a query string e.g. (@type:Submission AND fldname:"something")
-     * where the second %s could be one or more QS_ATTRIB_TEMPLATES
+     * Order of other search results, which are left in the order the index finds them in rather than sorted
      */
-    private static final String QS_TEMPLATE = "(@type:%s %s)";
+    private static final List<SortBuilder<?>> UNSORTED = emptyList();
 
-    private static final String EXISTS_TEMPLATE = "_exists_:%s";
+    private static final DateTimeFormatter INDEX_DATE_FORMAT = ISODateTimeFormat.dateTime().withZoneUTC();
 
-    private static final String NOT_EXISTS_TEMPLATE = "-" + EXISTS_TEMPLATE;
-
-    private static final String QS_ATTRIB_NOT_EXISTS_TEMPLATE = "AND " + NOT_EXISTS_TEMPLATE;
-
-    private static final String ID_FIELDNAME = "@id";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     /**
      * URL(s) of indexer
@@ -82,6 +154,39 @@ public class ElasticsearchPassClient {
      */
     private final String[] indices;
 
+    /**
+     * Shared client, created on first use
+     */
+    private volatile RestHighLevelClient client;
+
+    /**
+     * Connection pool of the shared client, {@code null} until the client is built, or if it was supplied by the
+     * caller
+     */
+    private volatile PoolingNHttpClientConnectionManager connectionManager;
+
+    /**
+     * Discovers the nodes of the cluster for the shared client, {@code null} if discovery is disabled
+     */
+    private IndexNodeSniffer sniffer;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Cache of search results, {@code null} if caching is disabled
+     */
+    private final QueryCache queryCache = QueryCache.fromConfig();
+
+    /**
+     * Writes used to correct search results until the index shows them, {@code null} if disabled
+     */
+    private final RecentWrites recentWrites = RecentWrites.fromConfig();
+
+    /**
+     * Reads entities from the documents in the index
+     */
+    private final PassJsonAdapter adapter = new PassJsonAdapterBasic();
+
     /**
      * Default constructor for PASS client
      */
@@ -97,6 +202,21 @@ public class ElasticsearchPassClient {
         indices = ElasticsearchConfig.getIndices();
     }
 
+    /**
+     * Support passing in of an elasticsearch client. The client is used as-is, without the connection pool settings
+     * from {@link ElasticsearchConfig}, and will be closed when this instance is closed.
+     *
+     * @param client elasticsearch client
+     */
+    public ElasticsearchPassClient(RestHighLevelClient client) {
+        if (client == null) {
+            throw new IllegalArgumentException("client parameter cannot be null");
+        }
+        this.hosts = new HttpHost[0];
+        this.indices = ElasticsearchConfig.getIndices();
+        this.client = client;
+    }
+
     /**
      * @param modelClass modelClass
      * @param attribute  attribute
@@ -106,36 +226,99 @@ public class ElasticsearchPassClient {
      * @see org.dataconservancy.pass.client.PassClient#findByAttribute(Class, String, Object)
      */
     public <T extends PassEntity> URI findByAttribute(Class<T> modelClass, String attribute, Object value) {
-        validateModelParam(modelClass);
-        validateAttribValParams(attribute, value, true);
+        QueryBuilder query = findByAttributeQuery(modelClass, attribute, value);
+        //get 2 so we can check only one result matched
+        Set<URI> uris = withRecentWrites(modelClass, singletonMap(attribute, value), 0,
+                                         getIndexerResults(modelClass, query, UNSORTED, 2, 0));
+        return singleResult(uris, attribute, value);
+    }
 
-        String indexType = null;
+    /**
+     * @param modelClass modelClass
+     * @param attribute  attribute
+     * @param value      value
+     * @param <T>        PASS entity type
+     * @return future URI
+     * @see org.dataconservancy.pass.client.AsyncPassClient#findByAttributeAsync(Class, String, Object)
+     */
+    public <T extends PassEntity> CompletableFuture<URI> findByAttributeAsync(Class<T> modelClass, String attribute,
+                                                                            Object value) {
+        QueryBuilder query = findByAttributeQuery(modelClass, attribute, value);
+        return getIndexerResultsAsync(modelClass, query, UNSORTED, 2, 0)
+            .thenApply(uris -> withRecentWrites(modelClass, singletonMap(attribute, value), 0, uris))
+            .thenApply(uris -> singleResult(uris, attribute, value));
+    }
 
-        if (PassEntityType.getTypeByName(modelClass.getSimpleName()) != null) {
-            indexType = PassEntityType.getTypeByName(modelClass.getSimpleName()).getName();
+    /**
+     * Each result is corrected with recent writes, as for {@link #findByAttribute(Class, String, Object)}, but the
+     * queries are always sent to the index rather than answered from the query cache, since they are made together.
+     *
+     * @param queries queries
+     * @return result of each query, in the order of the queries
+     * @see org.dataconservancy.pass.client.PassClient#findEachByAttribute(List)
+     */
+    public List<AttributeQueryResult> findEachByAttribute(List<AttributeQuery> queries) {
+        if (queries == null) {
+            throw new IllegalArgumentException("queries cannot be null");
         }
+        AttributeQueryResult[] results = new AttributeQueryResult[queries.size()];
 
-        String attribs = null;
-        if (value != null) {
-            attribs = String.format(QS_ATTRIB_TEMPLATE, attribute, value.toString());
-        } else {
-            attribs = String.format(QS_ATTRIB_NOT_EXISTS_TEMPLATE, attribute);
-        }
-        String querystring = String.format(QS_TEMPLATE, indexType, attribs);
+        // queries that are sent, by their position in the response
+        List<Integer> sent = new ArrayList<>();
+        List<QueryBuilder> searches = new ArrayList<>();
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
 
-        Set<URI> passEntityUris = getIndexerResults(querystring, 2, 0); //get 2 so we can check only one result matched
-        if (passEntityUris.size() > 1) {
-            throw new RuntimeException(
-                format("More than one results was returned by this query (%s = %s). " +
-                       "findByAttribute() searches should match only one result.  Instead found:\n %s",
-                       attribute, value,
-                       join("\n", passEntityUris.stream().map(URI::toString).collect(toList()))));
+        for (int i = 0; i < queries.size(); i++) {
+            AttributeQuery query = queries.get(i);
+            try {
+                if (query == null) {
+                    throw new IllegalArgumentException("query cannot be null");
+                }
+                QueryBuilder search = findByAttributeQuery(query.getModelClass(), query.getAttribute(),
+                                                           query.getValue());
+                //get 2 so we can check only one result matched
+                multiSearchRequest.add(searchRequest(search, 2, 0));
+                sent.add(i);
+                searches.add(search);
+            } catch (RuntimeException e) {
+                results[i] = AttributeQueryResult.failure(query, e);
+            }
         }
-        URI passEntityUri = null;
-        if (passEntityUris.size() > 0) {
-            passEntityUri = passEntityUris.iterator().next();
+
+        if (!sent.isEmpty()) {
+            LOG.debug("Performing {} lookups in one multi-search", sent.size());
+            MultiSearchResponse.Item[] responses = null;
+            Exception failure = null;
+            RestHighLevelClient highLevelClient = client();
+            try {
+                responses = highLevelClient.msearch(multiSearchRequest, RequestOptions.DEFAULT).getResponses();
+            } catch (Exception e) {
+                failure = e;
+            }
+
+            for (int j = 0; j < sent.size(); j++) {
+                AttributeQuery query = queries.get(sent.get(j));
+                QueryBuilder search = searches.get(j);
+                if (failure != null) {
+                    results[sent.get(j)] = AttributeQueryResult.failure(query, searchError(search, failure));
+                } else if (responses[j].isFailure()) {
+                    results[sent.get(j)] = AttributeQueryResult.failure(
+                        query, searchError(search, responses[j].getFailure()));
+                } else {
+                    try {
+                        Set<URI> uris = withRecentWrites(query.getModelClass(),
+                                                         singletonMap(query.getAttribute(), query.getValue()), 0,
+                                                         toUris(responses[j].getResponse()));
+                        URI uri = singleResult(uris, query.getAttribute(), query.getValue());
+                        results[sent.get(j)] = AttributeQueryResult.success(query, uri);
+                    } catch (RuntimeException e) {
+                        results[sent.get(j)] = AttributeQueryResult.failure(query, e);
+                    }
+                }
+            }
         }
-        return passEntityUri;
+
+        return Arrays.asList(results);
     }
 
     /**
@@ -147,7 +330,9 @@ public class ElasticsearchPassClient {
      * @see org.dataconservancy.pass.client.PassClient#findAllByAttribute(Class, String, Object)
      */
     public <T extends PassEntity> Set<URI> findAllByAttribute(Class<T> modelClass, String attribute, Object value) {
-        return findAllByAttribute(modelClass, attribute, value, ElasticsearchConfig.getIndexerLimit(), 0);
+        Set<URI> uris = getIndexerResults(modelClass, findByAttributeQuery(modelClass, attribute, value), UNSORTED,
+                                          ElasticsearchConfig.getIndexerLimit(), 0);
+        return withRecentWrites(modelClass, singletonMap(attribute, value), 0, uris);
     }
 
     /**
@@ -162,26 +347,44 @@ public class ElasticsearchPassClient {
      */
     public <T extends PassEntity> Set<URI> findAllByAttribute(Class<T> modelClass, String attribute, Object value,
                                                               int limit, int offset) {
-        validateModelParam(modelClass);
-        validateAttribValParams(attribute, value, true);
         validLimitOffsetParams(limit, offset);
+        Set<URI> uris = getIndexerResults(modelClass, findByAttributeQuery(modelClass, attribute, value), BY_ID,
+                                          limit, offset);
+        return withRecentWrites(modelClass, singletonMap(attribute, value), offset, uris);
+    }
 
-        String indexType = null;
-
-        if (PassEntityType.getTypeByName(modelClass.getSimpleName()) != null) {
-            indexType = PassEntityType.getTypeByName(modelClass.getSimpleName()).getName();
-        }
-
-        String attribs = null;
-        if (value != null) {
-            attribs = String.format(QS_ATTRIB_TEMPLATE, attribute, value.toString());
-        } else {
-            attribs = String.format(NOT_EXISTS_TEMPLATE, attribute);
-        }
-        String querystring = String.format(QS_TEMPLATE, indexType, attribs);
-        Set<URI> passEntityUris = getIndexerResults(querystring, limit, offset);
+    /**
+     * @param modelClass modelClass
+     * @param attribute  attribute
+     * @param value      value
+     * @param <T>        PASS entity type
+     * @return future Set of URI
+     * @see org.dataconservancy.pass.client.AsyncPassClient#findAllByAttributeAsync(Class, String, Object)
+     */
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributeAsync(Class<T> modelClass,
+                                                                                    String attribute, Object value) {
+        return getIndexerResultsAsync(modelClass, findByAttributeQuery(modelClass, attribute, value), UNSORTED,
+                                      ElasticsearchConfig.getIndexerLimit(), 0)
+            .thenApply(uris -> withRecentWrites(modelClass, singletonMap(attribute, value), 0, uris));
+    }
 
-        return passEntityUris;
+    /**
+     * @param modelClass modelClass
+     * @param attribute  attribute
+     * @param value      value
+     * @param limit      limit
+     * @param offset     offset
+     * @param <T>        PASS entity type
+     * @return future Set of URI
+     * @see org.dataconservancy.pass.client.AsyncPassClient#findAllByAttributeAsync(Class, String, Object, int, int)
+     */
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributeAsync(Class<T> modelClass,
+                                                                                    String attribute, Object value,
+                                                                                    int limit, int offset) {
+        validLimitOffsetParams(limit, offset);
+        return getIndexerResultsAsync(modelClass, findByAttributeQuery(modelClass, attribute, value), BY_ID, limit,
+                                      offset)
+            .thenApply(uris -> withRecentWrites(modelClass, singletonMap(attribute, value), offset, uris));
     }
 
     /**
@@ -193,7 +396,9 @@ public class ElasticsearchPassClient {
      */
     public <T extends PassEntity> Set<URI> findAllByAttributes(Class<T> modelClass,
                                                                Map<String, Object> valueAttributesMap) {
-        return findAllByAttributes(modelClass, valueAttributesMap, ElasticsearchConfig.getIndexerLimit(), 0);
+        Set<URI> uris = getIndexerResults(modelClass, findAllByAttributesQuery(modelClass, valueAttributesMap),
+                                          UNSORTED, ElasticsearchConfig.getIndexerLimit(), 0);
+        return withRecentWrites(modelClass, valueAttributesMap, 0, uris);
     }
 
     /**
@@ -208,79 +413,897 @@ public class ElasticsearchPassClient {
     public <T extends PassEntity> Set<URI> findAllByAttributes(Class<T> modelClass,
                                                                Map<String, Object> valueAttributesMap, int limit,
                                                                int offset) {
+        validLimitOffsetParams(limit, offset);
+        Set<URI> uris = getIndexerResults(modelClass, findAllByAttributesQuery(modelClass, valueAttributesMap),
+                                          BY_ID, limit, offset);
+        return withRecentWrites(modelClass, valueAttributesMap, offset, uris);
+    }
+
+    /**
+     * @param modelClass         modelClass
+     * @param valueAttributesMap valueAttributesMap
+     * @param <T>                PASS entity type
+     * @return future Set of URI
+     * @see org.dataconservancy.pass.client.AsyncPassClient#findAllByAttributesAsync(Class, Map)
+     */
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributesAsync(Class<T> modelClass,
+                                                                                     Map<String, Object>
+                                                                                         valueAttributesMap) {
+        return getIndexerResultsAsync(modelClass, findAllByAttributesQuery(modelClass, valueAttributesMap), UNSORTED,
+                                      ElasticsearchConfig.getIndexerLimit(), 0)
+            .thenApply(uris -> withRecentWrites(modelClass, valueAttributesMap, 0, uris));
+    }
+
+    /**
+     * @param modelClass         modelClass
+     * @param valueAttributesMap valueAttributesMap
+     * @param limit              limit
+     * @param offset             offset
+     * @param <T>                PASS entity type
+     * @return future Set of URI
+     * @see org.dataconservancy.pass.client.AsyncPassClient#findAllByAttributesAsync(Class, Map, int, int)
+     */
+    public <T extends PassEntity> CompletableFuture<Set<URI>> findAllByAttributesAsync(Class<T> modelClass,
+                                                                                     Map<String, Object>
+                                                                                         valueAttributesMap,
+                                                                                     int limit, int offset) {
+        validLimitOffsetParams(limit, offset);
+        return getIndexerResultsAsync(modelClass, findAllByAttributesQuery(modelClass, valueAttributesMap), BY_ID,
+                                      limit, offset)
+            .thenApply(uris -> withRecentWrites(modelClass, valueAttributesMap, offset, uris));
+    }
+
+    /**
+     * @param modelClass         modelClass
+     * @param valueAttributesMap valueAttributesMap
+     * @param <T>                PASS entity type
+     * @return number of matching entities
+     * @see org.dataconservancy.pass.client.PassClient#countByAttributes(Class, Map)
+     */
+    public <T extends PassEntity> long countByAttributes(Class<T> modelClass, Map<String, Object> valueAttributesMap) {
+        return getIndexerCount(findAllByAttributesQuery(modelClass, valueAttributesMap), 0);
+    }
+
+    /**
+     * @param modelClass         modelClass
+     * @param valueAttributesMap valueAttributesMap
+     * @param <T>                PASS entity type
+     * @return true if any entity matches
+     * @see org.dataconservancy.pass.client.PassClient#existsByAttributes(Class, Map)
+     */
+    public <T extends PassEntity> boolean existsByAttributes(Class<T> modelClass,
+                                                             Map<String, Object> valueAttributesMap) {
+        // each shard can stop searching as soon as it finds a match
+        return getIndexerCount(findAllByAttributesQuery(modelClass, valueAttributesMap), 1) > 0;
+    }
+
+    /**
+     * @param modelClass modelClass
+     * @param filters    filters
+     * @param attribute  attribute
+     * @param <T>        PASS entity type
+     * @return Map of each value to the number of entities with it, most common first
+     * @see PassIndexClient#countByAttributeValue(Class, Map, String)
+     */
+    @Override
+    public <T extends PassEntity> Map<String, Long> countByAttributeValue(Class<T> modelClass,
+                                                                          Map<String, Object> filters,
+                                                                          String attribute) {
+        validateAttribValParams(attribute, "", false);
+        Terms terms = aggregate(aggregationQuery(modelClass, filters),
+                                AggregationBuilders.terms(AGGREGATION_NAME).field(attribute)
+                                                   .size(ElasticsearchConfig.getAggregationSize()));
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        if (terms.getSumOfOtherDocCounts() > 0) {
+            LOG.warn("Counts of {} by {} are truncated to the {} most common values, leaving out {} more counted " +
+                     "entities; raise pass.elasticsearch.aggregation.size to include them", indexType(modelClass),
+                     attribute, counts.size(), terms.getSumOfOtherDocCounts());
+        }
+        return counts;
+    }
+
+    /**
+     * @param modelClass    modelClass
+     * @param filters       filters
+     * @param dateAttribute dateAttribute
+     * @param interval      interval
+     * @param <T>           PASS entity type
+     * @return Map of the start of each interval to the number of entities dated within it, in date order
+     * @see PassIndexClient#countByDate(Class, Map, String, DateInterval)
+     */
+    @Override
+    public <T extends PassEntity> SortedMap<DateTime, Long> countByDate(Class<T> modelClass,
+                                                                       Map<String, Object> filters,
+                                                                       String dateAttribute, DateInterval interval) {
+        validateAttribValParams(dateAttribute, "", false);
+        if (interval == null) {
+            throw new IllegalArgumentException("interval cannot be null");
+        }
+        Histogram histogram = aggregate(aggregationQuery(modelClass, filters),
+                                        AggregationBuilders.dateHistogram(AGGREGATION_NAME).field(dateAttribute)
+                                                           .dateHistogramInterval(histogramInterval(interval)));
+
+        SortedMap<DateTime, Long> counts = new TreeMap<>();
+        for (Histogram.Bucket bucket : histogram.getBuckets()) {
+            long start = ((ReadableInstant) bucket.getKey()).getMillis();
+            counts.put(new DateTime(start, DateTimeZone.UTC), bucket.getDocCount());
+        }
+        return counts;
+    }
+
+    /**
+     * @param modelClass modelClass
+     * @param filters    filters
+     * @param attribute  attribute
+     * @param <T>        PASS entity type
+     * @return approximate number of distinct values
+     * @see PassIndexClient#countDistinct(Class, Map, String)
+     */
+    @Override
+    public <T extends PassEntity> long countDistinct(Class<T> modelClass, Map<String, Object> filters,
+                                                     String attribute) {
+        validateAttribValParams(attribute, "", false);
+        Cardinality cardinality = aggregate(aggregationQuery(modelClass, filters),
+                                            AggregationBuilders.cardinality(AGGREGATION_NAME).field(attribute));
+        return cardinality.getValue();
+    }
+
+    /**
+     * @param modelClass modelClass
+     * @param attribute  attribute
+     * @param value      value
+     * @param <T>        PASS entity type
+     * @return List of PASS entities read from the index
+     * @see org.dataconservancy.pass.client.PassClient#findAllEntitiesByAttribute(Class, String, Object)
+     */
+    public <T extends PassEntity> List<T> findAllEntitiesByAttribute(Class<T> modelClass, String attribute,
+                                                                     Object value) {
+        return getIndexedEntities(findByAttributeQuery(modelClass, attribute, value), modelClass, UNSORTED,
+                                  ElasticsearchConfig.getIndexerLimit(), 0);
+    }
+
+    /**
+     * @param modelClass         modelClass
+     * @param valueAttributesMap valueAttributesMap
+     * @param <T>                PASS entity type
+     * @return List of PASS entities read from the index
+     * @see org.dataconservancy.pass.client.PassClient#findAllEntitiesByAttributes(Class, Map)
+     */
+    public <T extends PassEntity> List<T> findAllEntitiesByAttributes(Class<T> modelClass,
+                                                                      Map<String, Object> valueAttributesMap) {
+        return getIndexedEntities(findAllByAttributesQuery(modelClass, valueAttributesMap), modelClass, UNSORTED,
+                                  ElasticsearchConfig.getIndexerLimit(), 0);
+    }
+
+    /**
+     * @param modelClass         modelClass
+     * @param valueAttributesMap valueAttributesMap
+     * @param limit              limit
+     * @param offset             offset
+     * @param <T>                PASS entity type
+     * @return List of PASS entities read from the index
+     * @see org.dataconservancy.pass.client.PassClient#findAllEntitiesByAttributes(Class, Map, int, int)
+     */
+    public <T extends PassEntity> List<T> findAllEntitiesByAttributes(Class<T> modelClass,
+                                                                      Map<String, Object> valueAttributesMap,
+                                                                      int limit, int offset) {
+        validLimitOffsetParams(limit, offset);
+        return getIndexedEntities(findAllByAttributesQuery(modelClass, valueAttributesMap), modelClass, BY_ID, limit,
+                                  offset);
+    }
+
+    /**
+     * @param modelClass         modelClass
+     * @param valueAttributesMap valueAttributesMap
+     * @param <T>                PASS entity type
+     * @return Stream of URI, which must be closed
+     * @see org.dataconservancy.pass.client.PassClient#streamAllByAttributes(Class, Map)
+     */
+    public <T extends PassEntity> Stream<URI> streamAllByAttributes(Class<T> modelClass,
+                                                                    Map<String, Object> valueAttributesMap) {
+        return streamAll(findAllByAttributesQuery(modelClass, valueAttributesMap));
+    }
+
+    /**
+     * @param modelClass modelClass
+     * @param criteria   criteria
+     * @param <T>        PASS entity type
+     * @return Set of URI
+     * @see PassIndexClient#findAllByCriteria(Class, IndexCriteria)
+     */
+    @Override
+    public <T extends PassEntity> Set<URI> findAllByCriteria(Class<T> modelClass, IndexCriteria criteria) {
+        return getIndexerResults(modelClass, findByCriteriaQuery(modelClass, criteria), sorts(criteria, false),
+                                 ElasticsearchConfig.getIndexerLimit(), 0);
+    }
+
+    /**
+     * @param modelClass modelClass
+     * @param criteria   criteria
+     * @param limit      limit
+     * @param offset     offset
+     * @param <T>        PASS entity type
+     * @return Set of URI
+     * @see PassIndexClient#findAllByCriteria(Class, IndexCriteria, int, int)
+     */
+    @Override
+    public <T extends PassEntity> Set<URI> findAllByCriteria(Class<T> modelClass, IndexCriteria criteria, int limit,
+                                                             int offset) {
+        validLimitOffsetParams(limit, offset);
+        return getIndexerResults(modelClass, findByCriteriaQuery(modelClass, criteria), sorts(criteria, true), limit,
+                                 offset);
+    }
+
+    /**
+     * @param modelClass modelClass
+     * @param criteria   criteria
+     * @param <T>        PASS entity type
+     * @return Stream of URI, which must be closed
+     * @see PassIndexClient#streamAllByCriteria(Class, IndexCriteria)
+     */
+    @Override
+    public <T extends PassEntity> Stream<URI> streamAllByCriteria(Class<T> modelClass, IndexCriteria criteria) {
+        return streamAll(findByCriteriaQuery(modelClass, criteria));
+    }
+
+    private Stream<URI> streamAll(QueryBuilder query) {
+        SearchRequest request = searchRequest(query, ElasticsearchConfig.getScrollSize(), 0);
+
+        // scroll in index order, which is cheapest when the order of results does not matter
+        request.source().sort(FieldSortBuilder.DOC_FIELD_NAME);
+        TimeValue keepAlive = TimeValue.timeValueSeconds(ElasticsearchConfig.getScrollKeepAliveSeconds());
+
+        IndexScroll<URI> scroll = new IndexScroll<>(client(), request, keepAlive, ElasticsearchPassClient::toUris,
+                                             e -> searchError(query, e));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(scroll, Spliterator.NONNULL), false)
+                            .onClose(scroll::close);
+    }
+
+    /**
+     * @param modelClass modelClass
+     * @param attribute  attribute
+     * @param values     values
+     * @param <T>        PASS entity type
+     * @return Map of each value to the URIs matching it
+     * @see org.dataconservancy.pass.client.PassClient#findAllByAttributeIn(Class, String, Collection)
+     */
+    public <T extends PassEntity> Map<Object, Set<URI>> findAllByAttributeIn(Class<T> modelClass, String attribute,
+                                                                           Collection<?> values) {
+        validateModelParam(modelClass);
+        validateAttribValuesParams(attribute, values);
+
+        // values are searched for as strings, so several values may share a term
+        Map<String, List<Object>> valuesByTerm = new LinkedHashMap<>();
+        Map<Object, Set<URI>> results = new LinkedHashMap<>();
+        for (Object value : values) {
+            valuesByTerm.computeIfAbsent(value.toString(), term -> new ArrayList<>()).add(value);
+            results.put(value, new LinkedHashSet<>());
+        }
+
+        List<String> terms = new ArrayList<>(valuesByTerm.keySet());
+        int chunkSize = ElasticsearchConfig.getTermsChunkSize();
+        TimeValue keepAlive = TimeValue.timeValueSeconds(ElasticsearchConfig.getScrollKeepAliveSeconds());
+
+        LOG.debug("Searching for {} by {} values of {}", modelClass.getSimpleName(), terms.size(), attribute);
+
+        for (int start = 0; start < terms.size(); start += chunkSize) {
+            List<String> chunk = terms.subList(start, Math.min(start + chunkSize, terms.size()));
+            String description = format("%s with %s in %d values", indexType(modelClass), attribute, chunk.size());
+
+            // a value may match any number of entities, so scroll through all of them
+            try (IndexScroll<SearchHit> hits = new IndexScroll<>(client(), termsRequest(modelClass, attribute, chunk),
+                                                                 keepAlive, SearchResponse::getHits,
+                                                                 e -> searchError(description, e))) {
+                hits.forEachRemaining(hit -> {
+                    Map<String, Object> source = hit.getSourceAsMap();
+                    URI passEntityUri = toUri(source.get(ID_FIELDNAME));
+                    for (Object matched : attributeValues(source.get(attribute))) {
+                        valuesByTerm.getOrDefault(matched.toString(), emptyList())
+                                    .forEach(value -> results.get(value).add(passEntityUri));
+                    }
+                });
+            }
+        }
+
+        return results;
+    }
+
+    private <T extends PassEntity> QueryBuilder findByAttributeQuery(Class<T> modelClass, String attribute,
+                                                                     Object value) {
+        validateModelParam(modelClass);
+        validateAttribValParams(attribute, value, true);
+
+        return attributeFilter(typeQuery(modelClass), attribute, value);
+    }
+
+    private <T extends PassEntity> QueryBuilder findAllByAttributesQuery(Class<T> modelClass,
+                                                                         Map<String, Object> valueAttributesMap) {
         validateModelParam(modelClass);
         validateAttribMapParam(valueAttributesMap);
-        validLimitOffsetParams(limit, offset);
 
         LOG.debug("Searching for {} using multiple filters", modelClass.getSimpleName());
 
+        // in order of attribute, so that the same attributes always give the same query
+        BoolQueryBuilder query = typeQuery(modelClass);
+        for (Entry<String, Object> attr : new TreeMap<>(valueAttributesMap).entrySet()) {
+            attributeFilter(query, attr.getKey(), attr.getValue());
+        }
+        return query;
+    }
+
+    private <T extends PassEntity> QueryBuilder findByCriteriaQuery(Class<T> modelClass, IndexCriteria criteria) {
+        validateModelParam(modelClass);
+        if (criteria == null || criteria.getCriteria().isEmpty()) {
+            throw new IllegalArgumentException("criteria cannot be empty");
+        }
+
+        LOG.debug("Searching for {} using {} criteria", modelClass.getSimpleName(), criteria.getCriteria().size());
+
+        BoolQueryBuilder query = typeQuery(modelClass);
+        for (IndexCriteria.Criterion criterion : criteria.getCriteria()) {
+            String attribute = criterion.getAttribute();
+            Object value = indexValue(criterion.getValue());
+            switch (criterion.getOperator()) {
+                case GREATER_THAN:
+                    query.filter(QueryBuilders.rangeQuery(attribute).gt(value));
+                    break;
+                case GREATER_THAN_OR_EQUAL_TO:
+                    query.filter(QueryBuilders.rangeQuery(attribute).gte(value));
+                    break;
+                case LESS_THAN:
+                    query.filter(QueryBuilders.rangeQuery(attribute).lt(value));
+                    break;
+                case LESS_THAN_OR_EQUAL_TO:
+                    query.filter(QueryBuilders.rangeQuery(attribute).lte(value));
+                    break;
+                default:
+                    attributeFilter(query, attribute, value);
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Convert a value to the form it is indexed in. Dates are indexed as they are serialized, in ISO 8601 format in
+     * UTC.
+     */
+    private static Object indexValue(Object value) {
+        if (value instanceof ReadableInstant) {
+            return INDEX_DATE_FORMAT.print((ReadableInstant) value);
+        }
+        return value;
+    }
+
+    /**
+     * Sorts requested by criteria, followed by URI when a page is requested so that the order is always the same
+     */
+    private static List<SortBuilder<?>> sorts(IndexCriteria criteria, boolean paged) {
+        List<SortBuilder<?>> sorts = new ArrayList<>();
+        for (IndexCriteria.Sort sort : criteria.getSorts()) {
+            sorts.add(SortBuilders.fieldSort(sort.getAttribute())
+                .order(sort.isAscending() ? SortOrder.ASC : SortOrder.DESC));
+            if (ID_FIELDNAME.equals(sort.getAttribute())) {
+                // URIs are unique, so any further sort would never apply
+                return sorts;
+            }
+        }
+        if (paged) {
+            sorts.addAll(BY_ID);
+        }
+        return sorts;
+    }
+
+    /**
+     * Query matching every entity of a type. All clauses are filters, so results are not scored and the index can
+     * cache them.
+     */
+    private static <T extends PassEntity> BoolQueryBuilder typeQuery(Class<T> modelClass) {
+        return QueryBuilders.boolQuery().filter(QueryBuilders.termQuery(TYPE_FIELDNAME, indexType(modelClass)));
+    }
+
+    /**
+     * Query matching the entities of a type to be aggregated. Unlike other searches, there need not be any filters
+     * on attributes.
+     */
+    private <T extends PassEntity> QueryBuilder aggregationQuery(Class<T> modelClass, Map<String, Object> filters) {
+        validateModelParam(modelClass);
+        BoolQueryBuilder query = typeQuery(modelClass);
+        if (filters != null) {
+            for (Entry<String, Object> attr : filters.entrySet()) {
+                validateAttribValParams(attr.getKey(), attr.getValue(), true);
+                attributeFilter(query, attr.getKey(), attr.getValue());
+            }
+        }
+        return query;
+    }
+
+    private static DateHistogramInterval histogramInterval(DateInterval interval) {
+        switch (interval) {
+            case DAY:
+                return DateHistogramInterval.DAY;
+            case WEEK:
+                return DateHistogramInterval.WEEK;
+            case MONTH:
+                return DateHistogramInterval.MONTH;
+            case QUARTER:
+                return DateHistogramInterval.QUARTER;
+            default:
+                return DateHistogramInterval.YEAR;
+        }
+    }
+
+    /**
+     * Add a filter on an attribute to a query: the attribute must match the value as a phrase, or must be absent if
+     * the value is null. A phrase matches a keyword field only on its exact value, and matches an analyzed field the
+     * same way the {@code attribute:"value"} query strings used previously did.
+     */
+    private static BoolQueryBuilder attributeFilter(BoolQueryBuilder query, String attribute, Object value) {
+        if (value != null) {
+            return query.filter(QueryBuilders.matchPhraseQuery(attribute, value.toString()));
+        }
+        return query.mustNot(QueryBuilders.existsQuery(attribute));
+    }
+
+    /**
+     * Search for entities with any of the terms provided for an attribute, retrieving just their ID and that attribute
+     */
+    private <T extends PassEntity> SearchRequest termsRequest(Class<T> modelClass, String attribute,
+                                                              Collection<String> terms) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+            .query(typeQuery(modelClass).filter(QueryBuilders.termsQuery(attribute, terms)))
+            .fetchSource(new String[] {ID_FIELDNAME, attribute}, null)
+            .size(ElasticsearchConfig.getScrollSize())
+            .sort(FieldSortBuilder.DOC_FIELD_NAME);
+
+        return new SearchRequest(indices).source(sourceBuilder);
+    }
+
+    /**
+     * The values of an attribute in an indexed document, which may hold one value or several
+     */
+    private static Collection<?> attributeValues(Object value) {
+        if (value == null) {
+            return emptyList();
+        }
+        return value instanceof Collection ? (Collection<?>) value : singletonList(value);
+    }
+
+    private static <T extends PassEntity> String indexType(Class<T> modelClass) {
         String indexType = null;
 
         if (PassEntityType.getTypeByName(modelClass.getSimpleName()) != null) {
             indexType = PassEntityType.getTypeByName(modelClass.getSimpleName()).getName();
         }
+        return indexType;
+    }
+
+    /**
+     * Check that at most one result matched a {@code findByAttribute} search
+     */
+    private static URI singleResult(Set<URI> passEntityUris, String attribute, Object value) {
+        if (passEntityUris.size() > 1) {
+            throw new RuntimeException(
+                format("More than one results was returned by this query (%s = %s). " +
+                       "findByAttribute() searches should match only one result.  Instead found:\n %s",
+                       attribute, value,
+                       join("\n", passEntityUris.stream().map(URI::toString).collect(toList()))));
+        }
+        URI passEntityUri = null;
+        if (passEntityUris.size() > 0) {
+            passEntityUri = passEntityUris.iterator().next();
+        }
+        return passEntityUri;
+    }
 
-        StringBuilder attribs = new StringBuilder("");
-        for (Entry<String, Object> attr : valueAttributesMap.entrySet()) {
-            if (attr.getValue() != null) {
-                attribs.append(String.format(QS_ATTRIB_TEMPLATE, attr.getKey(), attr.getValue().toString()));
-            } else {
-                attribs.append(String.format(QS_ATTRIB_NOT_EXISTS_TEMPLATE, attr.getKey()));
+    /**
+     * Retrieve search results from elasticsearch
+     *
+     * @param query
+     * @param sorts
+     * @param limit
+     * @param offset
+     * @return
+     */
+    private Set<URI> getIndexerResults(Class<? extends PassEntity> modelClass, QueryBuilder query,
+                                       List<SortBuilder<?>> sorts, int limit, int offset) {
+        if (queryCache != null) {
+            try {
+                return getIndexerResultsAsync(modelClass, query, sorts, limit, offset).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
             }
         }
-        String querystring = String.format(QS_TEMPLATE, indexType, attribs);
 
-        Set<URI> passEntityUris = getIndexerResults(querystring, limit, offset);
-        return passEntityUris;
+        RestHighLevelClient highLevelClient = client();
+        SearchResponse searchResponse = null;
+        try {
+            searchResponse = highLevelClient.search(searchRequest(query, sorts, limit, offset), RequestOptions.DEFAULT);
+        } catch (Exception e) {
+            throw searchError(query, e);
+        }
+        return toUris(searchResponse);
     }
 
     /**
-     * Retrieve search results from elasticsearch
+     * Correct search results with recent writes, if enabled. Entities written recently are added to the first page
+     * of results.
+     *
+     * @param modelClass
+     * @param attributes
+     * @param offset
+     * @param uris
+     * @return
+     */
+    private Set<URI> withRecentWrites(Class<? extends PassEntity> modelClass, Map<String, Object> attributes,
+                                      int offset, Set<URI> uris) {
+        if (recentWrites == null || offset > 0) {
+            return uris;
+        }
+        return recentWrites.merge(modelClass, attributes, uris);
+    }
+
+    /**
+     * Retrieve search results from the query cache if enabled, or from elasticsearch, without waiting for the
+     * response
+     *
+     * @param modelClass
+     * @param query
+     * @param sorts
+     * @param limit
+     * @param offset
+     * @return
+     */
+    private CompletableFuture<Set<URI>> getIndexerResultsAsync(Class<? extends PassEntity> modelClass,
+                                                               QueryBuilder query, List<SortBuilder<?>> sorts,
+                                                               int limit, int offset) {
+        if (queryCache != null) {
+            return queryCache.get(modelClass, Strings.toString(query) + sorts, limit, offset,
+                                  () -> searchAsync(query, sorts, limit, offset));
+        }
+        return searchAsync(query, sorts, limit, offset);
+    }
+
+    /**
+     * Retrieve search results from elasticsearch, without waiting for the response
      *
-     * @param querystring
+     * @param query
+     * @param sorts
      * @param limit
      * @param offset
      * @return
      */
-    private Set<URI> getIndexerResults(String querystring, int limit, int offset) {
+    private CompletableFuture<Set<URI>> searchAsync(QueryBuilder query, List<SortBuilder<?>> sorts, int limit,
+                                                    int offset) {
+        CompletableFuture<Set<URI>> result = new CompletableFuture<>();
+
+        client().searchAsync(searchRequest(query, sorts, limit, offset), RequestOptions.DEFAULT,
+                             new ActionListener<SearchResponse>() {
+                                 @Override
+                                 public void onResponse(SearchResponse searchResponse) {
+                                     try {
+                                         result.complete(toUris(searchResponse));
+                                     } catch (Exception e) {
+                                         result.completeExceptionally(e);
+                                     }
+                                 }
+
+                                 @Override
+                                 public void onFailure(Exception e) {
+                                     result.completeExceptionally(searchError(query, e));
+                                 }
+                             });
 
-        Set<URI> passEntityUris = new HashSet<URI>();
+        return result;
+    }
 
-        try (RestHighLevelClient client = new RestHighLevelClient(RestClient.builder(hosts))) {
+    /**
+     * Run an aggregation over the matches for a query in elasticsearch, without retrieving any of them
+     *
+     * @param query
+     * @param aggregation aggregation, named AGGREGATION_NAME
+     * @return
+     */
+    private <A extends Aggregation> A aggregate(QueryBuilder query, AggregationBuilder aggregation) {
+        SearchRequest request = searchRequest(query, 0, 0);
+        request.source().fetchSource(false).aggregation(aggregation);
 
-            SearchRequest searchRequest = new SearchRequest();
-            SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-            sourceBuilder.from(offset);
-            sourceBuilder.size(limit);
+        RestHighLevelClient highLevelClient = client();
+        SearchResponse searchResponse = null;
+        try {
+            searchResponse = highLevelClient.search(request, RequestOptions.DEFAULT);
+        } catch (Exception e) {
+            throw searchError(query, e);
+        }
+        return searchResponse.getAggregations().get(AGGREGATION_NAME);
+    }
 
-            LOG.debug("Searching index using querystring: {}, with limit {} and offset {}", querystring, limit, offset);
-            //(content:this OR name:this)
-            QueryStringQueryBuilder matchQueryBuilder = new QueryStringQueryBuilder(querystring);
+    /**
+     * Count the matches for a query in elasticsearch, without retrieving any of them
+     *
+     * @param query
+     * @param terminateAfter maximum number of matches to count on each shard, or 0 to count them all
+     * @return
+     */
+    private long getIndexerCount(QueryBuilder query, int terminateAfter) {
+        CountRequest request = new CountRequest(indices).source(new SearchSourceBuilder().query(query));
+        if (terminateAfter > 0) {
+            request.terminateAfter(terminateAfter);
+        }
 
-            matchQueryBuilder.defaultOperator(Operator.AND);
-            sourceBuilder.query(matchQueryBuilder);
-            searchRequest.source(sourceBuilder);
-            searchRequest.indices(indices);
-            SearchResponse searchResponse = client.search(searchRequest);
-            SearchHits hits = searchResponse.getHits();
-            Iterator<SearchHit> hitsIt = hits.iterator();
+        LOG.debug("Counting index matches for query: {}", Strings.toString(query));
+        RestHighLevelClient highLevelClient = client();
+        try {
+            return highLevelClient.count(request, RequestOptions.DEFAULT).getCount();
+        } catch (Exception e) {
+            throw searchError(query, e);
+        }
+    }
 
-            while (hitsIt.hasNext()) {
-                String idField = hitsIt.next().getSourceAsMap().get(ID_FIELDNAME).toString();
-                passEntityUris.add(new URI(idField));
+    /**
+     * Retrieve whole entities from elasticsearch, flagged as having been read from the index
+     *
+     * @param query
+     * @param modelClass
+     * @param sorts
+     * @param limit
+     * @param offset
+     * @return
+     */
+    private <T extends PassEntity> List<T> getIndexedEntities(QueryBuilder query, Class<T> modelClass,
+                                                              List<SortBuilder<?>> sorts, int limit, int offset) {
+        SearchRequest request = searchRequest(query, sorts, limit, offset);
+        request.source().fetchSource(FetchSourceContext.FETCH_SOURCE);
+
+        RestHighLevelClient highLevelClient = client();
+        SearchResponse searchResponse = null;
+        try {
+            searchResponse = highLevelClient.search(request, RequestOptions.DEFAULT);
+        } catch (Exception e) {
+            throw searchError(query, e);
+        }
+
+        List<T> entities = new ArrayList<>();
+        for (SearchHit hit : searchResponse.getHits()) {
+            T entity;
+            try {
+                entity = adapter.toModel(hit.getSourceRef().streamInput(), modelClass);
+            } catch (IOException e) {
+                throw new RuntimeException("The record returned from the indexer could not be read", e);
             }
+            entity.setIndexSourced(true);
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private SearchRequest searchRequest(QueryBuilder query, List<SortBuilder<?>> sorts, int limit, int offset) {
+        SearchRequest searchRequest = searchRequest(query, limit, offset);
+        sorts.forEach(searchRequest.source()::sort);
+        return searchRequest;
+    }
+
+    private SearchRequest searchRequest(QueryBuilder query, int limit, int offset) {
+        SearchRequest searchRequest = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.from(offset);
+        sourceBuilder.size(limit);
+
+        LOG.debug("Searching index using query: {}, with limit {} and offset {}", Strings.toString(query), limit,
+                  offset);
+        sourceBuilder.query(query);
+        // only the ID is needed, so do not retrieve the rest of each document
+        sourceBuilder.fetchSource(ID_FIELDNAME, null);
+        searchRequest.source(sourceBuilder);
+        searchRequest.indices(indices);
+        return searchRequest;
+    }
+
+    static Set<URI> toUris(SearchResponse searchResponse) {
+        // keep the order the index sorted them in
+        Set<URI> passEntityUris = new LinkedHashSet<URI>();
+
+        SearchHits hits = searchResponse.getHits();
+        Iterator<SearchHit> hitsIt = hits.iterator();
+
+        while (hitsIt.hasNext()) {
+            passEntityUris.add(toUri(idOf(hitsIt.next())));
+        }
+
+        return passEntityUris;
+    }
+
+    /**
+     * Read the ID from the source of a hit, without parsing the rest of the source into a map
+     */
+    private static String idOf(SearchHit hit) {
+        BytesReference source = hit.getSourceRef();
+        if (source == null) {
+            throw new RuntimeException("The record returned from the indexer has no source to read the ID from");
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(source.streamInput())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (ID_FIELDNAME.equals(field)) {
+                    return parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException("The record returned from the indexer could not be read", e);
+        }
+    }
+
+    private static URI toUri(Object idField) {
+        if (idField == null) {
+            throw new RuntimeException("Something was wrong with the record returned from the indexer. It has no ID");
+        }
+        try {
+            return new URI(String.valueOf(idField));
         } catch (URISyntaxException e) {
             throw new RuntimeException(
                 "Something was wrong with the record returned from the indexer. The ID could not be recognized as a " +
                 "URI",
                 e);
-        } catch (Exception e) {
-            throw new RuntimeException(String.format("An error occurred while processing the query: %s", querystring),
-                                       e);
         }
+    }
 
-        return passEntityUris;
+    private static RuntimeException searchError(QueryBuilder query, Exception e) {
+        return searchError(Strings.toString(query), e);
+    }
+
+    private static RuntimeException searchError(String query, Exception e) {
+        return new RuntimeException(String.format("An error occurred while processing the query: %s", query), e);
+    }
+
+    /**
+     * Statistics for the pool of connections to the indexer: connections leased, idle (available), and requests
+     * pending a connection, along with the configured maximum.
+     *
+     * @return connection pool statistics, or {@code null} if the client has not been used yet, or was supplied by the
+     * caller
+     */
+    public PoolStats getPoolStats() {
+        PoolingNHttpClientConnectionManager manager = connectionManager;
+        return manager != null ? manager.getTotalStats() : null;
+    }
+
+    /**
+     * The cache of search results, for example to inspect its hit and miss counts or to invalidate results. The cache
+     * is enabled by setting {@code pass.elasticsearch.cache.size}.
+     *
+     * @return the cache, or {@code null} if caching is disabled
+     */
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * The log of recent writes used to correct search results until the index shows them. It is enabled by setting
+     * {@code pass.elasticsearch.recent.writes.size}.
+     *
+     * @return the log, or {@code null} if disabled
+     */
+    public RecentWrites getRecentWrites() {
+        return recentWrites;
+    }
+
+    /**
+     * Closes the shared client, releasing its pooled connections and I/O threads. Once closed, this instance can no
+     * longer be used to query the index: queries throw an {@link IllegalStateException}.
+     *
+     * @throws IOException if the client could not be closed cleanly
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        if (sniffer != null) {
+            sniffer.close();
+        }
+        if (client != null) {
+            LOG.debug("Closing index client");
+            client.close();
+        }
+    }
 
+    /**
+     * Get the shared client, creating it on first use.
+     *
+     * @return the client
+     */
+    private RestHighLevelClient client() {
+        RestHighLevelClient result = client;
+        if (result == null) {
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("The index client has been closed");
+                }
+                result = client;
+                if (result == null) {
+                    result = buildClient();
+                    client = result;
+                }
+            }
+        } else if (closed) {
+            throw new IllegalStateException("The index client has been closed");
+        }
+        return result;
+    }
+
+    /**
+     * Build a client with a pool of connections sized according to {@link ElasticsearchConfig}. Threads are daemons,
+     * so an unclosed client will not keep the JVM alive.
+     *
+     * @return the client
+     */
+    private RestHighLevelClient buildClient() {
+        int ioThreads = ElasticsearchConfig.getIoThreadCount();
+        int maxConnections = ElasticsearchConfig.getMaxConnections();
+        int maxConnectionsPerRoute = ElasticsearchConfig.getMaxConnectionsPerRoute();
+        long keepAlive = ElasticsearchConfig.getKeepAliveMillis();
+
+        PoolingNHttpClientConnectionManager manager;
+        try {
+            DefaultConnectingIOReactor ioReactor = new DefaultConnectingIOReactor(
+                IOReactorConfig.custom().setIoThreadCount(ioThreads).setSoKeepAlive(true).build(),
+                daemonThreadFactory("pass-es-io-"));
+            manager = new PoolingNHttpClientConnectionManager(ioReactor);
+        } catch (IOReactorException e) {
+            throw new RuntimeException("Could not start the index client I/O reactor", e);
+        }
+        manager.setMaxTotal(maxConnections);
+        manager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager = manager;
+
+        LOG.debug("Creating index client with {} I/O threads, {} max connections, {} max per route, {}ms keep-alive",
+                  ioThreads, maxConnections, maxConnectionsPerRoute, keepAlive);
+
+        RestClientBuilder builder = RestClient.builder(hosts)
+            .setHttpClientConfigCallback(httpClientBuilder -> httpClientBuilder
+                .setConnectionManager(manager)
+                .setThreadFactory(daemonThreadFactory("pass-es-client-"))
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                        .getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+                }))
+            // only relevant once nodes are discovered, as configured hosts have no known roles
+            .setNodeSelector(NodeSelector.SKIP_DEDICATED_MASTERS);
+
+        int sniffInterval = ElasticsearchConfig.getSniffIntervalSeconds();
+        if (sniffInterval > 0) {
+            LOG.debug("Discovering index nodes every {}s", sniffInterval);
+            sniffer = new IndexNodeSniffer(hosts[0].getSchemeName(), TimeUnit.SECONDS.toMillis(sniffInterval),
+                                           TimeUnit.SECONDS.toMillis(
+                                               ElasticsearchConfig.getSniffAfterFailureSeconds()));
+            builder.setFailureListener(sniffer);
+        }
+
+        RestHighLevelClient highLevelClient = new RestHighLevelClient(builder);
+        if (sniffer != null) {
+            sniffer.start(highLevelClient.getLowLevelClient());
+        }
+        return highLevelClient;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
     private <T extends PassEntity> void validateAttribMapParam(Map<String, Object> valueAttributesMap) {
@@ -310,6 +1333,15 @@ public class ElasticsearchPassClient {
         }
     }
 
+    private void validateAttribValuesParams(String attribute, Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("values cannot be empty");
+        }
+        for (Object value : values) {
+            validateAttribValParams(attribute, value, false);
+        }
+    }
+
     private void validateAttribValParams(String attribute, Object value, boolean allowNullValues) {
         if (attribute == null || attribute.length() == 0) {
             throw new IllegalArgumentException("attribute cannot be null or empty");
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.elasticsearch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the nodes used by an index client up to date with the nodes in the cluster. The cluster is asked for its
+ * nodes periodically, and also soon after any request to a node fails, so that nodes added to the cluster start
+ * receiving queries and nodes removed from it stop doing so.
+ * <p>
+ * The client itself spreads requests across its nodes round-robin, and takes a node that fails out of rotation
+ * for an increasing time before retrying it; this class only replaces the list of nodes. Each node is returned with
+ * its roles, so that the client can avoid sending queries to dedicated master nodes.
+ * </p>
+ * <p>
+ * The sniffer must be registered as the failure listener of the client when it is built, and then started.
+ * </p>
+ */
+class IndexNodeSniffer extends RestClient.FailureListener implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexNodeSniffer.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String scheme;
+
+    private final long intervalMillis;
+
+    private final long afterFailureMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "pass-es-sniffer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile RestClient client;
+
+    private Future<?> next;
+
+    private boolean closed = false;
+
+    /**
+     * Whether nodes are being requested, during which failures are those of the request itself
+     */
+    private volatile boolean sniffing = false;
+
+    /**
+     * @param scheme             scheme used to connect to the nodes found, e.g. http
+     * @param intervalMillis     time between requests for the nodes in the cluster
+     * @param afterFailureMillis time until the next request for nodes after one made because a node failed
+     */
+    IndexNodeSniffer(String scheme, long intervalMillis, long afterFailureMillis) {
+        this.scheme = scheme;
+        this.intervalMillis = intervalMillis;
+        this.afterFailureMillis = afterFailureMillis;
+    }
+
+    /**
+     * Start finding the nodes of the cluster, immediately and then periodically
+     *
+     * @param client client whose nodes are to be kept up to date
+     */
+    synchronized void start(RestClient client) {
+        this.client = client;
+        schedule(0, intervalMillis);
+    }
+
+    /**
+     * Find the nodes in the cluster now that a node has failed, and again sooner than usual
+     *
+     * @param node the node that failed
+     */
+    @Override
+    public void onFailure(Node node) {
+        if (sniffing) {
+            return;
+        }
+        LOG.debug("Index node {} failed, finding the nodes of the cluster", node.getHost());
+        synchronized (this) {
+            if (client != null) {
+                schedule(0, afterFailureMillis);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (next != null) {
+            next.cancel(false);
+        }
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Replace any pending request for nodes with one after the delay given
+     */
+    private void schedule(long delayMillis, long thenMillis) {
+        if (closed) {
+            return;
+        }
+        if (next != null) {
+            next.cancel(false);
+        }
+        next = scheduler.schedule(() -> {
+            sniff();
+            synchronized (this) {
+                schedule(thenMillis, intervalMillis);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void sniff() {
+        sniffing = true;
+        try {
+            Response response = client.performRequest(new Request("GET", "/_nodes/http"));
+            List<Node> nodes;
+            try (InputStream in = response.getEntity().getContent()) {
+                nodes = parseNodes(in, scheme);
+            }
+            if (nodes.isEmpty()) {
+                LOG.warn("No index nodes with HTTP enabled were found, keeping the nodes already known");
+                return;
+            }
+            LOG.debug("Found {} index nodes", nodes.size());
+            client.setNodes(nodes);
+        } catch (Exception e) {
+            LOG.warn("Could not find the nodes of the index cluster: {}", e.getMessage());
+        } finally {
+            sniffing = false;
+        }
+    }
+
+    /**
+     * Read the nodes from a response to a nodes info request. Nodes without HTTP enabled cannot be queried, so are
+     * left out.
+     *
+     * @param in     response body
+     * @param scheme scheme used to connect to the nodes
+     * @return nodes
+     * @throws IOException if the response could not be read
+     */
+    static List<Node> parseNodes(InputStream in, String scheme) throws IOException {
+        List<Node> nodes = new ArrayList<>();
+        Iterator<JsonNode> nodeInfos = MAPPER.readTree(in).path("nodes").elements();
+        while (nodeInfos.hasNext()) {
+            JsonNode info = nodeInfos.next();
+            String address = info.path("http").path("publish_address").asText(null);
+            if (address == null) {
+                continue;
+            }
+
+            // the address may be given as hostname/ip:port, in which case connect by the hostname
+            int slash = address.indexOf('/');
+            if (slash >= 0) {
+                address = address.substring(0, slash) + address.substring(address.lastIndexOf(':'));
+            }
+            HttpHost host = HttpHost.create(scheme + "://" + address);
+
+            boolean master = false;
+            boolean data = false;
+            boolean ingest = false;
+            for (JsonNode role : info.path("roles")) {
+                master |= "master".equals(role.asText());
+                data |= "data".equals(role.asText());
+                ingest |= "ingest".equals(role.asText());
+            }
+
+            nodes.add(new Node(host, Collections.singleton(host), info.path("name").asText(null),
+                               info.path("version").asText(null), new Node.Roles(master, data, ingest),
+                               Collections.emptyMap()));
+        }
+        return nodes;
+    }
+}
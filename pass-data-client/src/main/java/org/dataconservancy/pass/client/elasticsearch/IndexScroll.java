@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.elasticsearch;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.search.ClearScrollRequest;
+import org.elasticsearch.action.search.ClearScrollResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Iterates over every result of a search, one page at a time, using the scroll API. Unlike paging with an offset,
+ * each page costs the same to retrieve however deep into the results it is, and only one page is held at a time.
+ * <p>
+ * The next page is requested as soon as the current one arrives, so that it is usually ready by the time the
+ * current page has been consumed. The scroll is cleared on the index once the last page is reached, or when the
+ * iterator is closed.
+ * </p>
+ *
+ * @param <T> type of result
+ */
+class IndexScroll<T> implements Iterator<T>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexScroll.class);
+
+    private final RestHighLevelClient client;
+
+    private final TimeValue keepAlive;
+
+    private final Function<SearchResponse, Iterable<T>> toResults;
+
+    private final Function<Exception, RuntimeException> error;
+
+    private Iterator<T> page = Collections.emptyIterator();
+
+    private CompletableFuture<SearchResponse> nextPage;
+
+    private String scrollId;
+
+    private boolean closed = false;
+
+    /**
+     * Start the scroll by performing the initial search
+     *
+     * @param client    index client
+     * @param request   search, with the page size set
+     * @param keepAlive how long the index should keep the scroll between pages
+     * @param toResults extracts the results from a page
+     * @param error     wraps an error in retrieving a page
+     */
+    IndexScroll(RestHighLevelClient client, SearchRequest request, TimeValue keepAlive,
+                Function<SearchResponse, Iterable<T>> toResults, Function<Exception, RuntimeException> error) {
+        this.client = client;
+        this.keepAlive = keepAlive;
+        this.toResults = toResults;
+        this.error = error;
+
+        request.scroll(keepAlive);
+        try {
+            accept(client.search(request, RequestOptions.DEFAULT));
+        } catch (Exception e) {
+            throw error.apply(e);
+        }
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        while (!page.hasNext()) {
+            if (nextPage == null) {
+                return false;
+            }
+            SearchResponse response;
+            try {
+                response = nextPage.join();
+            } catch (CompletionException e) {
+                close();
+                throw error.apply(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            }
+            accept(response);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    /**
+     * Stop scrolling, and release the scroll on the index. Any page already requested is discarded.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        page = Collections.emptyIterator();
+        if (nextPage != null) {
+            nextPage.cancel(false);
+            nextPage = null;
+        }
+        clearScroll();
+    }
+
+    /**
+     * Take a page of results, and request the next one unless this was the last
+     */
+    private void accept(SearchResponse response) {
+        scrollId = response.getScrollId();
+        nextPage = null;
+
+        if (closed || response.getHits().getHits().length == 0) {
+            close();
+            return;
+        }
+        page = toResults.apply(response).iterator();
+
+        CompletableFuture<SearchResponse> next = new CompletableFuture<>();
+        nextPage = next;
+        SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId).scroll(keepAlive);
+        client.scrollAsync(scrollRequest, RequestOptions.DEFAULT, new ActionListener<SearchResponse>() {
+            @Override
+            public void onResponse(SearchResponse searchResponse) {
+                if (!next.complete(searchResponse)) {
+                    // closed while the page was in flight
+                    clearScroll(searchResponse.getScrollId());
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                next.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void clearScroll() {
+        if (scrollId != null) {
+            clearScroll(scrollId);
+            scrollId = null;
+        }
+    }
+
+    private void clearScroll(String id) {
+        ClearScrollRequest request = new ClearScrollRequest();
+        request.addScrollId(id);
+        client.clearScrollAsync(request, RequestOptions.DEFAULT, new ActionListener<ClearScrollResponse>() {
+            @Override
+            public void onResponse(ClearScrollResponse clearScrollResponse) {
+                LOG.debug("Cleared index scroll");
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                LOG.warn("Could not clear index scroll, it will expire after {}: {}", keepAlive, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.elasticsearch;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.dataconservancy.pass.client.util.SingleFlight;
+import org.dataconservancy.pass.model.PassEntity;
+
+/**
+ * Cache of the URIs found by index searches, by the type of entity searched for, the query, and the limit and offset.
+ * Concurrent searches for the same key share a single request to the index.
+ * <p>
+ * The least recently used entry is evicted once the cache is full, and an entry is discarded once it is older than
+ * the time-to-live for its type of entity. Entries are not updated as the index changes, so the time-to-live bounds
+ * how out of date a result can be.
+ * </p>
+ * <p>
+ * Writes made through the same client invalidate the entries they may affect. As the index shows a write some time
+ * after it is made, the type of entity written is then held as pending for a while, during which its search results
+ * are not cached, so that a search made before the index catches up is not cached for the full time-to-live.
+ * Likewise, results that include a deleted entity are not cached while the delete is pending. A write the index takes
+ * longer than the pending time to show may still be cached for up to the time-to-live.
+ * </p>
+ */
+public class QueryCache {
+
+    private final int maxSize;
+
+    private final ToLongFunction<Class<? extends PassEntity>> ttlNanos;
+
+    private final long pendingNanos;
+
+    private final LongSupplier clock;
+
+    private final Map<List<Object>, Entry> entries;
+
+    /**
+     * Time until which each type of entity recently written is pending
+     */
+    private final Map<Class<? extends PassEntity>, Long> pendingTypes = new HashMap<>();
+
+    /**
+     * Time until which each entity recently deleted is pending
+     */
+    private final Map<URI, Long> pendingDeletes = new HashMap<>();
+
+    private final SingleFlight<List<Object>, Set<URI>> loads = new SingleFlight<>(LinkedHashSet::new);
+
+    /**
+     * Incremented on every invalidation, so that a search started before one is neither cached nor joined
+     */
+    private long generation = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Create a cache, which does not hold writes as pending
+     *
+     * @param maxSize    maximum number of results held, at least 1
+     * @param ttlSeconds how long the results for a type of entity are held before they are discarded
+     */
+    public QueryCache(int maxSize, ToLongFunction<Class<? extends PassEntity>> ttlSeconds) {
+        this(maxSize, ttlSeconds, 0);
+    }
+
+    /**
+     * Create a cache
+     *
+     * @param maxSize        maximum number of results held, at least 1
+     * @param ttlSeconds     how long the results for a type of entity are held before they are discarded
+     * @param pendingSeconds how long after an invalidation results that may not reflect it are not cached, which
+     *                       should be longer than the index usually takes to catch up with a write
+     */
+    public QueryCache(int maxSize, ToLongFunction<Class<? extends PassEntity>> ttlSeconds, long pendingSeconds) {
+        this(maxSize, type -> TimeUnit.SECONDS.toNanos(ttlSeconds.applyAsLong(type)),
+             TimeUnit.SECONDS.toNanos(pendingSeconds), System::nanoTime);
+    }
+
+    QueryCache(int maxSize, ToLongFunction<Class<? extends PassEntity>> ttlNanos, LongSupplier clock) {
+        this(maxSize, ttlNanos, 0, clock);
+    }
+
+    QueryCache(int maxSize, ToLongFunction<Class<? extends PassEntity>> ttlNanos, long pendingNanos,
+               LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+        if (pendingNanos < 0) {
+            throw new IllegalArgumentException("pending time cannot be negative");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.pendingNanos = pendingNanos;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<List<Object>, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Entry> eldest) {
+                return size() > QueryCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Create a cache configured by {@link ElasticsearchConfig}, or {@code null} if caching is not enabled
+     *
+     * @return cache, or null
+     */
+    static QueryCache fromConfig() {
+        int size = ElasticsearchConfig.getCacheSize();
+        if (size < 1) {
+            return null;
+        }
+        return new QueryCache(size, ElasticsearchConfig::getCacheTtlSeconds,
+                              ElasticsearchConfig.getRecentWritesSeconds());
+    }
+
+    /**
+     * Get the result of a search, from the cache if it holds a current result, or else by joining a search for it
+     * already in flight or starting one with the loader. A search in flight is only joined if it was started since
+     * the last invalidation.
+     *
+     * @param modelClass type of entity searched for
+     * @param query      the query, which must be the same for equivalent searches
+     * @param limit      limit
+     * @param offset     offset
+     * @param loader     starts the search
+     * @return future result, which is the caller's own copy
+     */
+    CompletableFuture<Set<URI>> get(Class<? extends PassEntity> modelClass, String query, int limit, int offset,
+                                    Supplier<CompletableFuture<Set<URI>>> loader) {
+        List<Object> key = Arrays.asList(modelClass, query, limit, offset);
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && clock.getAsLong() - entry.created <= ttlNanos.applyAsLong(modelClass)) {
+                hits.incrementAndGet();
+                return CompletableFuture.completedFuture(new LinkedHashSet<>(entry.uris));
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            loadGeneration = generation;
+        }
+        misses.incrementAndGet();
+
+        List<Object> flightKey = Arrays.asList(modelClass, query, limit, offset, loadGeneration);
+        return loads.execute(flightKey, () -> loader.get().thenApply(uris -> {
+            put(key, modelClass, uris, loadGeneration);
+            return uris;
+        }));
+    }
+
+    private synchronized void put(List<Object> key, Class<? extends PassEntity> modelClass, Set<URI> uris,
+                                  long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        long now = clock.getAsLong();
+        pendingTypes.values().removeIf(until -> until - now <= 0);
+        pendingDeletes.values().removeIf(until -> until - now <= 0);
+        if (pendingTypes.containsKey(modelClass) || uris.stream().anyMatch(pendingDeletes::containsKey)) {
+            return;
+        }
+        entries.put(key, new Entry(modelClass, Collections.unmodifiableSet(new LinkedHashSet<>(uris)), now));
+    }
+
+    /**
+     * Remove the results of every search for a type of entity, typically because an entity of that type has been
+     * created or changed, and hold the type as pending until the index is expected to show the change
+     *
+     * @param modelClass type of entity
+     */
+    public synchronized void invalidate(Class<? extends PassEntity> modelClass) {
+        generation++;
+        entries.values().removeIf(entry -> entry.modelClass == modelClass);
+        if (pendingNanos > 0) {
+            pendingTypes.put(modelClass, clock.getAsLong() + pendingNanos);
+        }
+    }
+
+    /**
+     * Remove the results of every search that found an entity, typically because it has been deleted, and hold the
+     * entity as pending until the index is expected to show the delete
+     *
+     * @param uri entity URI
+     */
+    public synchronized void invalidate(URI uri) {
+        generation++;
+        entries.values().removeIf(entry -> entry.uris.contains(uri));
+        if (pendingNanos > 0) {
+            pendingDeletes.put(uri, clock.getAsLong() + pendingNanos);
+        }
+    }
+
+    /**
+     * Remove all entries, and forget which writes are pending
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        pendingTypes.clear();
+        pendingDeletes.clear();
+    }
+
+    /**
+     * Number of search results held
+     *
+     * @return size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of searches answered from the cache
+     *
+     * @return hit count
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Number of searches that were not answered from the cache, whether they started a request to the index or
+     * joined one already in flight
+     *
+     * @return miss count
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Cached result of a search
+     */
+    private static class Entry {
+
+        private final Class<? extends PassEntity> modelClass;
+
+        private final Set<URI> uris;
+
+        private final long created;
+
+        private Entry(Class<? extends PassEntity> modelClass, Set<URI> uris, long created) {
+            this.modelClass = modelClass;
+            this.uris = uris;
+            this.created = created;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.elasticsearch;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dataconservancy.pass.model.PassEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Log of the entities recently created, updated or deleted through a client, used to correct index search results
+ * until the index has caught up with the writes. Without it, a search made straight after a create is likely to miss
+ * the new entity, because the index is updated some time after the repository.
+ * <p>
+ * An entity written within the window is added to the results of a search it matches, and removed from the results of
+ * a search it no longer matches or after it has been deleted. Matching compares the attribute values the entity was
+ * written with against the values searched for, in the same way as the index compares terms, so holds for exact-match
+ * attributes such as identifiers, keys and statuses.
+ * </p>
+ * <p>
+ * Only writes recorded with the same {@link ElasticsearchPassClient} are known. Clients from
+ * {@code PassClientFactory} share one, so know of each other's writes; a {@code PassClientDefault} created directly
+ * has its own. The log is bounded: once full, the oldest write is forgotten, and a write is forgotten once the window
+ * has passed, by which time the index is expected to show it.
+ * </p>
+ */
+public class RecentWrites {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RecentWrites.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final TypeReference<Map<String, Object>> ATTRIBUTES = new TypeReference<Map<String, Object>>() {
+    };
+
+    private static final String ID_FIELDNAME = "@id";
+
+    private final int maxSize;
+
+    private final long windowNanos;
+
+    private final LongSupplier clock;
+
+    /**
+     * Writes by URI, oldest first
+     */
+    private final Map<URI, Write> writes;
+
+    /**
+     * Create a log
+     *
+     * @param maxSize       maximum number of writes remembered, at least 1
+     * @param windowSeconds how long a write is remembered
+     */
+    public RecentWrites(int maxSize, long windowSeconds) {
+        this(maxSize, TimeUnit.SECONDS.toNanos(windowSeconds), System::nanoTime);
+    }
+
+    RecentWrites(int maxSize, long windowNanos, LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+        if (windowNanos < 1) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        this.maxSize = maxSize;
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+        this.writes = new LinkedHashMap<URI, Write>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<URI, Write> eldest) {
+                return size() > RecentWrites.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Create a log configured by {@link ElasticsearchConfig}, or {@code null} if it is not enabled
+     *
+     * @return log, or null
+     */
+    static RecentWrites fromConfig() {
+        int size = ElasticsearchConfig.getRecentWritesSize();
+        if (size < 1) {
+            return null;
+        }
+        return new RecentWrites(size, ElasticsearchConfig.getRecentWritesSeconds());
+    }
+
+    /**
+     * Record that an entity has been created or updated. The attribute values are taken now, so later changes to the
+     * entity are not reflected.
+     *
+     * @param uri    URI of the entity
+     * @param entity the entity as written
+     */
+    public void written(URI uri, PassEntity entity) {
+        prepareWritten(uri, entity).run();
+    }
+
+    /**
+     * Prepare to record that an entity has been created or updated, for a write that is not visible until later, such
+     * as one made in a transaction that is yet to be committed. The attribute values are taken now, and the write is
+     * recorded, starting its window, when the action returned is run.
+     *
+     * @param uri    URI of the entity
+     * @param entity the entity as written
+     * @return action that records the write
+     */
+    public Runnable prepareWritten(URI uri, PassEntity entity) {
+        Map<String, Object> attributes;
+        try {
+            attributes = MAPPER.convertValue(entity, ATTRIBUTES);
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Could not record the write of {}, searches may not reflect it: {}", uri, e.getMessage());
+            return () -> { };
+        }
+        // a new entity is written without its URI
+        attributes.put(ID_FIELDNAME, uri.toString());
+        Class<? extends PassEntity> modelClass = entity.getClass();
+        return () -> put(uri, new Write(modelClass, attributes));
+    }
+
+    /**
+     * Record that an entity has been deleted
+     *
+     * @param uri URI of the entity
+     */
+    public void deleted(URI uri) {
+        put(uri, new Write(null, null));
+    }
+
+    private synchronized void put(URI uri, Write write) {
+        write.time = clock.getAsLong();
+        // re-add, so that the log stays in order of time written
+        writes.remove(uri);
+        writes.put(uri, write);
+    }
+
+    /**
+     * Correct the URIs found by a search for entities with the attribute values given
+     *
+     * @param modelClass type of entity searched for
+     * @param attributes attribute values searched for, where null matches a missing attribute
+     * @param found      URIs found in the index
+     * @return corrected URIs, which may be the set given
+     */
+    synchronized Set<URI> merge(Class<? extends PassEntity> modelClass, Map<String, Object> attributes,
+                                Set<URI> found) {
+        expire();
+        if (writes.isEmpty()) {
+            return found;
+        }
+
+        Set<URI> merged = new LinkedHashSet<>(found);
+        for (Map.Entry<URI, Write> entry : writes.entrySet()) {
+            Write write = entry.getValue();
+            if (write.modelClass == null) {
+                merged.remove(entry.getKey());
+            } else if (write.modelClass == modelClass) {
+                if (write.matches(attributes)) {
+                    merged.add(entry.getKey());
+                } else {
+                    merged.remove(entry.getKey());
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Forget every write
+     */
+    public synchronized void clear() {
+        writes.clear();
+    }
+
+    /**
+     * Number of writes remembered
+     *
+     * @return size
+     */
+    public synchronized int size() {
+        expire();
+        return writes.size();
+    }
+
+    private void expire() {
+        long now = clock.getAsLong();
+        Iterator<Write> oldest = writes.values().iterator();
+        while (oldest.hasNext() && now - oldest.next().time > windowNanos) {
+            oldest.remove();
+        }
+    }
+
+    /**
+     * An entity as written, or a deletion
+     */
+    private static class Write {
+
+        /**
+         * Type of entity, null if deleted
+         */
+        private final Class<? extends PassEntity> modelClass;
+
+        private final Map<String, Object> attributes;
+
+        private long time;
+
+        private Write(Class<? extends PassEntity> modelClass, Map<String, Object> attributes) {
+            this.modelClass = modelClass;
+            this.attributes = attributes;
+        }
+
+        /**
+         * Whether the entity has all the attribute values given. Values are compared as strings, and an attribute with
+         * a list of values matches any of them.
+         */
+        private boolean matches(Map<String, Object> values) {
+            for (Map.Entry<String, Object> value : values.entrySet()) {
+                Object actual = attributes.get(value.getKey());
+                boolean missing = actual == null ||
+                                  actual instanceof Collection<?> && ((Collection<?>) actual).isEmpty();
+                if (value.getValue() == null) {
+                    if (!missing) {
+                        return false;
+                    }
+                } else if (missing || !contains(actual, value.getValue().toString())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean contains(Object actual, String value) {
+            if (actual instanceof Collection<?>) {
+                for (Object item : (Collection<?>) actual) {
+                    if (item != null && value.equals(item.toString())) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return value.equals(actual.toString());
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.fedora;
+
+import java.lang.reflect.Constructor;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.dataconservancy.pass.model.PassEntity;
+
+/**
+ * Cache of PASS entities read from the repository, by URI. Each entry keeps the ETag it was read with, so that it can
+ * be revalidated with a conditional request rather than read again in full.
+ * <p>
+ * The least recently used entry is evicted once the cache is full, and an entry is discarded once it is older than
+ * the time-to-live. Within the freshness window of being read or revalidated, an entry is used without contacting the
+ * repository at all.
+ * </p>
+ * <p>
+ * Entities are copied into and out of the cache with their copy constructors, so callers are free to modify the
+ * entities they are given. Entities without a copy constructor are not cached.
+ * </p>
+ */
+public class EntityCache {
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final long freshNanos;
+
+    private final LongSupplier clock;
+
+    private final Map<URI, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final AtomicLong revalidations = new AtomicLong();
+
+    /**
+     * Create a cache
+     *
+     * @param maxSize       maximum number of entities held, at least 1
+     * @param ttlSeconds    how long an entity is held before it is discarded
+     * @param freshSeconds  how long after being read or revalidated an entity is used without revalidation, 0 to
+     *                      always revalidate
+     */
+    public EntityCache(int maxSize, long ttlSeconds, long freshSeconds) {
+        this(maxSize, TimeUnit.SECONDS.toNanos(ttlSeconds), TimeUnit.SECONDS.toNanos(freshSeconds), System::nanoTime);
+    }
+
+    EntityCache(int maxSize, long ttlNanos, long freshNanos, LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+        if (ttlNanos < 1 || freshNanos < 0) {
+            throw new IllegalArgumentException("ttl must be positive, and the freshness window cannot be negative");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.freshNanos = freshNanos;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<URI, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<URI, Entry> eldest) {
+                if (size() > EntityCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Create a cache configured by {@link FedoraConfig}, or {@code null} if caching is not enabled
+     *
+     * @return cache, or null
+     */
+    static EntityCache fromConfig() {
+        int size = FedoraConfig.getCacheSize();
+        if (size < 1) {
+            return null;
+        }
+        return new EntityCache(size, FedoraConfig.getCacheTtlSeconds(), FedoraConfig.getCacheFreshSeconds());
+    }
+
+    /**
+     * Look up an entity. Entries that have outlived the time-to-live, or hold an entity of a different class, are
+     * discarded.
+     *
+     * @param uri        entity URI
+     * @param modelClass expected entity class
+     * @return the entry, or null if there is none
+     */
+    synchronized Entry get(URI uri, Class<? extends PassEntity> modelClass) {
+        Entry entry = entries.get(uri);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.entity.getClass() != modelClass || clock.getAsLong() - entry.created > ttlNanos) {
+            entries.remove(uri);
+            evictions.incrementAndGet();
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Whether an entry may be used without revalidating it
+     */
+    boolean isFresh(Entry entry) {
+        return clock.getAsLong() - entry.validated < freshNanos;
+    }
+
+    /**
+     * Add an entity read from the repository, replacing any existing entry. The entity is copied, so later changes to
+     * it do not affect the cache.
+     *
+     * @param uri    URI the entity was read from
+     * @param entity entity read
+     * @param etag   ETag the entity was read with, as sent by the repository
+     */
+    void put(URI uri, PassEntity entity, String etag) {
+        if (etag == null) {
+            return;
+        }
+        PassEntity copy = copy(entity);
+        if (copy == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        synchronized (this) {
+            entries.put(uri, new Entry(copy, etag, now));
+        }
+    }
+
+    /**
+     * Record that an entry was confirmed to still be current
+     */
+    void revalidated(Entry entry) {
+        entry.validated = clock.getAsLong();
+        revalidations.incrementAndGet();
+    }
+
+    /**
+     * Remove any entry for a URI, typically because the resource has changed.
+     *
+     * @param uri entity URI
+     */
+    public synchronized void invalidate(URI uri) {
+        entries.remove(uri);
+    }
+
+    /**
+     * Remove all entries
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Number of entities held
+     *
+     * @return size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    void hit() {
+        hits.incrementAndGet();
+    }
+
+    void miss() {
+        misses.incrementAndGet();
+    }
+
+    /**
+     * Number of reads answered from the cache, whether or not the entry had to be revalidated
+     *
+     * @return hit count
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Number of reads that had to retrieve the entity from the repository
+     *
+     * @return miss count
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Number of entries removed to make room, or because they had outlived the time-to-live
+     *
+     * @return eviction count
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Number of entries confirmed to be current by a conditional request
+     *
+     * @return revalidation count
+     */
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    /**
+     * Copy an entity using its copy constructor
+     *
+     * @param entity entity to copy
+     * @param <T>    PASS entity type
+     * @return the copy, or null if the entity has no copy constructor
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends PassEntity> T copy(T entity) {
+        try {
+            Constructor<T> constructor = (Constructor<T>) entity.getClass().getConstructor(entity.getClass());
+            return constructor.newInstance(entity);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A cached entity, and the ETag it was read with
+     */
+    static class Entry {
+
+        private final PassEntity entity;
+
+        private final String etag;
+
+        private final long created;
+
+        private volatile long validated;
+
+        private Entry(PassEntity entity, String etag, long created) {
+            this.entity = entity;
+            this.etag = etag;
+            this.created = created;
+            this.validated = created;
+        }
+
+        /**
+         * ETag the entity was read with, for use in {@code If-None-Match}
+         */
+        String getEtag() {
+            return etag;
+        }
+
+        /**
+         * A copy of the cached entity
+         */
+        <T extends PassEntity> T getEntity(Class<T> modelClass) {
+            return modelClass.cast(copy(entity));
+        }
+    }
+}
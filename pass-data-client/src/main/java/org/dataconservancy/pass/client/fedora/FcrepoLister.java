@@ -37,6 +37,11 @@ import org.fcrepo.client.FcrepoResponse;
  * <p>
  * Uses n-triples for streaming large results
  * </p>
+ * <p>
+ * Listings are made through the Fedora client's own connection pool, which fcrepo-java-client builds from the JVM's
+ * system properties and does not let us size: it allows 5 connections to a host, unless the {@code http.maxConnections}
+ * system property says otherwise. Listings beyond that wait for a connection.
+ * </p>
  *
  * @author apb@jhu.edu
  */
@@ -41,6 +41,34 @@ public class FedoraConfig {
     private static final String BASEURL_KEY = "pass.fedora.baseurl";
     private static final String DEFAULT_BASE_URL = "http://localhost:8080/fcrepo/rest/";
 
+    private static final String MAX_REQUESTS_KEY = "pass.fedora.max.requests";
+    private static final int DEFAULT_MAX_REQUESTS = 128;
+
+    private static final String MAX_REQUESTS_PER_HOST_KEY = "pass.fedora.max.requests.per.host";
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 32;
+
+    private static final String BATCH_PARALLELISM_KEY = "pass.fedora.batch.parallelism";
+    private static final int DEFAULT_BATCH_PARALLELISM = 16;
+
+    private static final String TX_KEEPALIVE_KEY = "pass.fedora.tx.keepalive.seconds";
+    private static final int DEFAULT_TX_KEEPALIVE = 60;
+
+    private static final String CACHE_SIZE_KEY = "pass.fedora.cache.size";
+    private static final int DEFAULT_CACHE_SIZE = 0;
+
+    private static final String CACHE_TTL_KEY = "pass.fedora.cache.ttl.seconds";
+    private static final int DEFAULT_CACHE_TTL = 600;
+
+    private static final String CACHE_FRESH_KEY = "pass.fedora.cache.fresh.seconds";
+    private static final int DEFAULT_CACHE_FRESH = 0;
+
+    private static final String CRAWL_PARALLELISM_KEY = "pass.fedora.crawl.parallelism";
+    private static final int DEFAULT_CRAWL_PARALLELISM = 1;
+
+    private static final String CRAWL_MAX_LISTINGS_KEY = "pass.fedora.crawl.max.listings";
+
+    private static final String CRAWL_MAX_VISITS_KEY = "pass.fedora.crawl.max.visits";
+
     /**
      * Get the Fedora baseUrl
      *
@@ -76,6 +104,107 @@ public class FedoraConfig {
         return user;
     }
 
+    /**
+     * Get the maximum number of asynchronous requests that may execute at once; further requests are queued. Defaults
+     * to DEFAULT_MAX_REQUESTS if not set
+     *
+     * @return maximum number of concurrent asynchronous requests
+     */
+    public static int getMaxRequests() {
+        return ConfigUtil.getIntegerProperty(MAX_REQUESTS_KEY, DEFAULT_MAX_REQUESTS, 1);
+    }
+
+    /**
+     * Get the maximum number of asynchronous requests that may execute at once against a single host, which is also
+     * the number of idle connections kept for reuse. Defaults to DEFAULT_MAX_REQUESTS_PER_HOST if not set
+     *
+     * @return maximum number of concurrent asynchronous requests per host
+     */
+    public static int getMaxRequestsPerHost() {
+        return ConfigUtil.getIntegerProperty(MAX_REQUESTS_PER_HOST_KEY, DEFAULT_MAX_REQUESTS_PER_HOST, 1);
+    }
+
+    /**
+     * Get the maximum number of requests a batch operation keeps in flight at once. Defaults to
+     * DEFAULT_BATCH_PARALLELISM if not set
+     *
+     * @return maximum number of concurrent requests per batch
+     */
+    public static int getBatchParallelism() {
+        return ConfigUtil.getIntegerProperty(BATCH_PARALLELISM_KEY, DEFAULT_BATCH_PARALLELISM, 1);
+    }
+
+    /**
+     * Get how often, in seconds, an open transaction is renewed so that it does not expire. Should be well under the
+     * transaction timeout of the Fedora server. Defaults to DEFAULT_TX_KEEPALIVE if not set
+     *
+     * @return transaction keep-alive interval in seconds
+     */
+    public static int getTransactionKeepAliveSeconds() {
+        return ConfigUtil.getIntegerProperty(TX_KEEPALIVE_KEY, DEFAULT_TX_KEEPALIVE, 1);
+    }
+
+    /**
+     * Get the maximum number of entities held in the client-side entity cache; 0 disables the cache. Defaults to
+     * DEFAULT_CACHE_SIZE if not set
+     *
+     * @return maximum number of cached entities
+     */
+    public static int getCacheSize() {
+        return ConfigUtil.getIntegerProperty(CACHE_SIZE_KEY, DEFAULT_CACHE_SIZE, 0);
+    }
+
+    /**
+     * Get how long, in seconds, an entity is held in the client-side entity cache before it is discarded. Defaults to
+     * DEFAULT_CACHE_TTL if not set
+     *
+     * @return time-to-live of cached entities in seconds
+     */
+    public static int getCacheTtlSeconds() {
+        return ConfigUtil.getIntegerProperty(CACHE_TTL_KEY, DEFAULT_CACHE_TTL, 1);
+    }
+
+    /**
+     * Get how long, in seconds, after being read or revalidated a cached entity is used without checking with the
+     * repository that it is current; 0 always checks. Defaults to DEFAULT_CACHE_FRESH if not set
+     *
+     * @return freshness window of cached entities in seconds
+     */
+    public static int getCacheFreshSeconds() {
+        return ConfigUtil.getIntegerProperty(CACHE_FRESH_KEY, DEFAULT_CACHE_FRESH, 0);
+    }
+
+    /**
+     * Get the number of threads the repository crawler walks the repository with; 1 walks it on the calling thread.
+     * Defaults to DEFAULT_CRAWL_PARALLELISM if not set
+     *
+     * @return number of crawler threads
+     */
+    public static int getCrawlParallelism() {
+        return ConfigUtil.getIntegerProperty(CRAWL_PARALLELISM_KEY, DEFAULT_CRAWL_PARALLELISM, 1);
+    }
+
+    /**
+     * Get the maximum number of containers the repository crawler lists at once. Defaults to the crawl parallelism
+     * if not set. Listings are also limited by the connections available to them, 5 unless the
+     * {@code http.maxConnections} system property is set.
+     *
+     * @return maximum number of concurrent listings
+     */
+    public static int getCrawlMaxListings() {
+        return ConfigUtil.getIntegerProperty(CRAWL_MAX_LISTINGS_KEY, getCrawlParallelism(), 1);
+    }
+
+    /**
+     * Get the maximum number of resources the repository crawler passes to its visitor at once. Defaults to the
+     * crawl parallelism if not set
+     *
+     * @return maximum number of concurrent visits
+     */
+    public static int getCrawlMaxVisits() {
+        return ConfigUtil.getIntegerProperty(CRAWL_MAX_VISITS_KEY, getCrawlParallelism(), 1);
+    }
+
     /**
      * Get a path for a container, given a PASS type
      *
@@ -20,22 +20,43 @@ import static java.util.Base64.getEncoder;
 import static org.dataconservancy.pass.client.fedora.RepositoryCrawler.Ignore.IGNORE_CONTAINERS;
 import static org.dataconservancy.pass.client.fedora.RepositoryCrawler.Skip.SKIP_ACLS;
 import static org.dataconservancy.pass.client.fedora.RepositoryCrawler.Skip.depth;
+import static org.dataconservancy.pass.client.util.Futures.cancelling;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -43,16 +64,22 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.logging.HttpLoggingInterceptor;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
 import org.apache.http.HttpStatus;
+import org.dataconservancy.pass.client.BatchReadException;
+import org.dataconservancy.pass.client.BatchResult;
+import org.dataconservancy.pass.client.BatchUpdateResult;
 import org.dataconservancy.pass.client.PassClientDefault;
 import org.dataconservancy.pass.client.PassJsonAdapter;
 import org.dataconservancy.pass.client.adapter.PassJsonAdapterBasic;
+import org.dataconservancy.pass.client.util.SingleFlight;
 import org.dataconservancy.pass.model.PassEntity;
 import org.fcrepo.client.DeleteBuilder;
 import org.fcrepo.client.FcrepoClient;
 import org.fcrepo.client.FcrepoOperationFailedException;
 import org.fcrepo.client.FcrepoResponse;
-import org.fcrepo.client.GetBuilder;
 import org.fcrepo.client.PostBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,10 +87,15 @@ import org.slf4j.LoggerFactory;
 /**
  * Fedora CRUD client does basic work of creating, retrieving, updating, and deleting
  * records in Fedora based on model and/or URI provided.
+ * <p>
+ * Each operation also has an asynchronous variant, which returns a {@link CompletableFuture} immediately and performs
+ * the request on the OkHttp dispatcher. The number of asynchronous requests executing at once is bounded by
+ * {@link FedoraConfig#getMaxRequests()} and {@link FedoraConfig#getMaxRequestsPerHost()}; further requests are queued.
+ * </p>
  *
  * @author Karen Hanson
  */
-public class FedoraPassCrudClient {
+public class FedoraPassCrudClient implements Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(FedoraPassCrudClient.class);
 
@@ -77,7 +109,18 @@ public class FedoraPassCrudClient {
     private final static String INCOMING_INCLUDETYPE = "http://fedora.info/definitions/v4/repository#InboundReferences";
     private final static String IFMATCH_HEADER = "If-Match";
     private final static String ETAG_HEADER = "ETag";
+    private final static String IF_NONE_MATCH_HEADER = "If-None-Match";
     private final static String ETAG_WEAK_PREFIX = "W/";
+    private final static String LOCATION_HEADER = "Location";
+    private final static String SLUG_HEADER = "Slug";
+    private final static String DIGEST_HEADER = "Digest";
+    private final static String CONTENT_DISPOSITION_HEADER = "Content-Disposition";
+    private final static String DEFAULT_CONTENTTYPE = "application/octet-stream";
+
+    /**
+     * Reads incoming link graphs. Immutable, so shared by all clients.
+     */
+    private final static ObjectReader JSON_READER = new ObjectMapper().reader();
 
     /**
      * The Fedora client tool
@@ -107,15 +150,46 @@ public class FedoraPassCrudClient {
      */
     private boolean overwriteOnUpdate = false;
 
+    /**
+     * Maximum number of requests a batch operation keeps in flight at once
+     */
+    private int batchParallelism = FedoraConfig.getBatchParallelism();
+
+    /**
+     * Transaction that requests made from the current thread go through, if any
+     */
+    private final ThreadLocal<PassTransaction> transaction = new ThreadLocal<>();
+
+    /**
+     * Cache of entities read, or null if caching is disabled
+     */
+    private EntityCache entityCache;
+
+    /**
+     * Reads in flight, by URI and model class, so that concurrent reads of the same resource can share a request
+     */
+    private final SingleFlight<List<Object>, PassEntity> readsInFlight;
+
+    /**
+     * Incoming link reads in flight, by URI
+     */
+    private final SingleFlight<URI, Map<String, Collection<URI>>> incomingInFlight;
+
     /**
      * Instantiates default implementations of the underlying Fedora client, JSON adapter, and OkHttpClient.
      */
     public FedoraPassCrudClient() {
-        this(FcrepoClient.client()
-                         .credentials(FedoraConfig.getUserName(), FedoraConfig.getPassword())
-                         .throwExceptionOnFailure()
-                         .build(),
-             new PassJsonAdapterBasic());
+        this(defaultFcrepoClient(), new PassJsonAdapterBasic());
+    }
+
+    /**
+     * Instantiates default implementations of the underlying Fedora client and JSON adapter, making requests through
+     * the OkHttpClient given. Clients given the same OkHttpClient share its connection pool and request limits.
+     *
+     * @param okHttpClient HTTP client, for example from {@link #buildHttpClient()}
+     */
+    public FedoraPassCrudClient(OkHttpClient okHttpClient) {
+        this(defaultFcrepoClient(), new PassJsonAdapterBasic(), okHttpClient);
     }
 
     /**
@@ -133,8 +207,26 @@ public class FedoraPassCrudClient {
         }
         this.client = client;
         this.adapter = adapter;
+        this.okHttpClient = buildHttpClient();
+        this.entityCache = EntityCache.fromConfig();
+        this.readsInFlight = new SingleFlight<>(FedoraPassCrudClient::copyOf);
+        this.incomingInFlight = new SingleFlight<>(FedoraPassCrudClient::copyOf);
+    }
 
-        OkHttpClient.Builder okBuilder = new OkHttpClient.Builder();
+    /**
+     * Build an OkHttpClient configured by {@link FedoraConfig}, with its request limits, connection pool and
+     * credentials. It can be shared by several clients through {@link #FedoraPassCrudClient(OkHttpClient)}.
+     *
+     * @return HTTP client
+     */
+    public static OkHttpClient buildHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(FedoraConfig.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(FedoraConfig.getMaxRequestsPerHost());
+
+        OkHttpClient.Builder okBuilder = new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(FedoraConfig.getMaxRequestsPerHost(), 5, TimeUnit.MINUTES));
 
         if (FedoraConfig.getUserName() != null) {
             okBuilder.addInterceptor((requestChain) -> {
@@ -165,7 +257,14 @@ public class FedoraPassCrudClient {
             });
         }
 
-        this.okHttpClient = okBuilder.build();
+        return okBuilder.build();
+    }
+
+    private static FcrepoClient defaultFcrepoClient() {
+        return FcrepoClient.client()
+                           .credentials(FedoraConfig.getUserName(), FedoraConfig.getPassword())
+                           .throwExceptionOnFailure()
+                           .build();
     }
 
     /**
@@ -188,6 +287,33 @@ public class FedoraPassCrudClient {
         this.client = client;
         this.adapter = adapter;
         this.okHttpClient = okHttpClient;
+        this.entityCache = EntityCache.fromConfig();
+        this.readsInFlight = new SingleFlight<>(FedoraPassCrudClient::copyOf);
+        this.incomingInFlight = new SingleFlight<>(FedoraPassCrudClient::copyOf);
+    }
+
+    /**
+     * Client sharing the Fedora clients, entity cache and reads in flight of another
+     */
+    private FedoraPassCrudClient(FedoraPassCrudClient shared) {
+        this.client = shared.client;
+        this.adapter = shared.adapter;
+        this.okHttpClient = shared.okHttpClient;
+        this.entityCache = shared.entityCache;
+        this.readsInFlight = shared.readsInFlight;
+        this.incomingInFlight = shared.incomingInFlight;
+        this.batchParallelism = shared.batchParallelism;
+    }
+
+    /**
+     * Create a client that shares this client's connections, entity cache and reads in flight, so that an entity read
+     * through one is cached for both, and a write through either invalidates it for both. Settings such as
+     * overwriteOnUpdate, and transactions, are not shared.
+     *
+     * @return new client
+     */
+    public FedoraPassCrudClient newSharingClient() {
+        return new FedoraPassCrudClient(this);
     }
 
     /**
@@ -201,6 +327,83 @@ public class FedoraPassCrudClient {
         return this;
     }
 
+    /**
+     * Set the maximum number of requests a batch operation keeps in flight at once
+     *
+     * @param batchParallelism maximum number of concurrent requests, must be at least 1
+     * @return this client
+     */
+    public FedoraPassCrudClient batchParallelism(int batchParallelism) {
+        if (batchParallelism < 1) {
+            throw new IllegalArgumentException("batchParallelism must be at least 1");
+        }
+        this.batchParallelism = batchParallelism;
+        return this;
+    }
+
+    /**
+     * Set the cache used for entities read by this client, replacing any configured by {@link FedoraConfig}.
+     *
+     * @param entityCache the cache, or {@code null} to disable caching
+     * @return this client
+     */
+    public FedoraPassCrudClient entityCache(EntityCache entityCache) {
+        this.entityCache = entityCache;
+        return this;
+    }
+
+    /**
+     * The cache used for entities read by this client, for example to inspect its hit and miss counts
+     *
+     * @return the cache, or {@code null} if caching is disabled
+     */
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Releases the threads and pooled connections of the OkHttpClient, which should no longer be used by this or any
+     * other client sharing it. Requests already queued are still made.
+     */
+    @Override
+    public void close() {
+        closeHttpClient(okHttpClient);
+    }
+
+    /**
+     * Release the threads and pooled connections of an OkHttpClient, such as one from {@link #buildHttpClient()}
+     *
+     * @param okHttpClient HTTP client
+     */
+    public static void closeHttpClient(OkHttpClient okHttpClient) {
+        okHttpClient.dispatcher().executorService().shutdown();
+        okHttpClient.connectionPool().evictAll();
+    }
+
+    /**
+     * Begin a Fedora transaction. Until it is committed or rolled back, every request this client makes from the
+     * current thread goes through the transaction, so that the changes are applied together or not at all.
+     *
+     * @return the transaction
+     * @throws IllegalStateException if a transaction is already open on this thread
+     * @see PassTransaction
+     */
+    public PassTransaction beginTransaction() {
+        PassTransaction current = currentTransaction();
+        if (current != null) {
+            throw new IllegalStateException("A transaction is already open on this thread: " + current.getUri());
+        }
+
+        PassTransaction tx = PassTransaction.begin(okHttpClient, FedoraConfig.getBaseUrl(),
+                                                   FedoraConfig.getTransactionKeepAliveSeconds(), ended -> {
+                if (transaction.get() == ended) {
+                    transaction.remove();
+                }
+            });
+        transaction.set(tx);
+        return tx;
+    }
+
     /**
      * @param modelObj modelObj
      * @return URI
@@ -221,6 +424,27 @@ public class FedoraPassCrudClient {
         return createInternal(modelObj, true);
     }
 
+    /**
+     * @param modelObjs modelObjs
+     * @return result for each entity, in order
+     * @see org.dataconservancy.pass.client.PassClient#createResources(List)
+     */
+    public List<BatchResult<URI>> createResources(List<? extends PassEntity> modelObjs) {
+        return createBatch(modelObjs, this::createResourceAsync);
+    }
+
+    /**
+     * @param modelObjs  modelObjs
+     * @param modelClass modelClass
+     * @param <T>        PASS entity type
+     * @return result for each entity, in order
+     * @see org.dataconservancy.pass.client.PassClient#createAndReadResources(List, Class)
+     */
+    public <T extends PassEntity> List<BatchResult<T>> createAndReadResources(List<T> modelObjs,
+                                                                             Class<T> modelClass) {
+        return createBatch(modelObjs, modelObj -> createAndReadResourceAsync(modelObj, modelClass));
+    }
+
     /**
      * @param modelObj modelObj
      * @see org.dataconservancy.pass.client.PassClient#updateResource(PassEntity)
@@ -229,6 +453,69 @@ public class FedoraPassCrudClient {
         updateInternal(modelObj, true, false);
     }
 
+    /**
+     * @param modelObjs modelObjs
+     * @return outcome of the update for each entity
+     * @see org.dataconservancy.pass.client.PassClient#updateResources(Collection)
+     */
+    public BatchUpdateResult updateResources(Collection<? extends PassEntity> modelObjs) {
+        if (modelObjs == null) {
+            throw new IllegalArgumentException("modelObjs cannot be null");
+        }
+        List<PassEntity> entities = new ArrayList<>(modelObjs);
+        Set<URI> ids = new HashSet<>();
+        for (PassEntity modelObj : entities) {
+            if (modelObj == null || modelObj.getId() == null) {
+                throw new IllegalArgumentException("modelObjs cannot contain null or entities without an id");
+            }
+            // the outcomes are reported by URI, and two versions of one entity would race each other
+            if (!ids.add(modelObj.getId())) {
+                throw new IllegalArgumentException("modelObjs cannot contain more than one entity with id " +
+                                                   modelObj.getId());
+            }
+        }
+
+        List<CompletableFuture<Void>> updates = fanOut(entities, modelObj -> "", this::updateResourceAsync);
+
+        List<URI> succeeded = new ArrayList<>();
+        Map<URI, String> conflicts = new LinkedHashMap<>();
+        Map<URI, Throwable> failures = new LinkedHashMap<>();
+        List<URI> unknownVersions = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            URI uri = entities.get(i).getId();
+            try {
+                updates.get(i).join();
+                succeeded.add(uri);
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = unwrap(e);
+                if (cause instanceof UpdateConflictException) {
+                    String current = ((UpdateConflictException) cause).getCurrentVersionTag();
+                    conflicts.put(uri, current);
+                    if (current == null) {
+                        unknownVersions.add(uri);
+                    }
+                } else {
+                    failures.put(uri, cause);
+                }
+            }
+        }
+
+        // the conflict response did not say what the current version is, so ask for it
+        List<CompletableFuture<String>> versions = fanOut(unknownVersions, uri -> "", this::currentVersionTagAsync);
+        for (int i = 0; i < unknownVersions.size(); i++) {
+            try {
+                conflicts.put(unknownVersions.get(i), versions.get(i).join());
+            } catch (CompletionException | CancellationException e) {
+                LOG.warn("Could not determine current version of {}: {}", unknownVersions.get(i),
+                         unwrap(e).getMessage());
+            }
+        }
+
+        LOG.info("Batch update of {} resources: {} updated, {} conflicts, {} failures", entities.size(),
+                 succeeded.size(), conflicts.size(), failures.size());
+        return new BatchUpdateResult(succeeded, conflicts, failures);
+    }
+
     /**
      * @param modelObj   modelObj
      * @param modelClass modelClass
@@ -245,10 +532,17 @@ public class FedoraPassCrudClient {
      * @see org.dataconservancy.pass.client.PassClient#deleteResource(URI)
      */
     public void deleteResource(URI uri) {
+        invalidate(uri);
+        if (inTransaction()) {
+            execute(deleteRequest(uri), deleteHandler(uri), FedoraPassCrudClient::deleteError);
+            return;
+        }
         try (FcrepoResponse response = new DeleteBuilder(uri, client).perform()) {
             LOG.info("Resource deletion status for {}: {}", uri, response.getStatusCode());
         } catch (IOException | FcrepoOperationFailedException e) {
             throw new RuntimeException("A problem occurred while attempting to delete a Resource", e);
+        } finally {
+            invalidate(uri);
         }
     }
 
@@ -260,34 +554,45 @@ public class FedoraPassCrudClient {
      * @see org.dataconservancy.pass.client.PassClient#readResource(URI, Class)
      */
     public <T extends PassEntity> T readResource(URI uri, Class<T> modelClass) {
+        return await(readResource(currentTransaction(), uri, modelClass, true));
+    }
 
-        List<URI> omits = new ArrayList<URI>();
-        try {
-            omits.add(new URI(SERVER_MANAGED_OMITTYPE));
-        } catch (URISyntaxException e) {
-            throw new RuntimeException("Could not create required \"omit\" type.", e);
+    /**
+     * @param uris       uris
+     * @param modelClass modelClass
+     * @param <T>        PASS entity type
+     * @return map of PASS entities by URI
+     * @see org.dataconservancy.pass.client.PassClient#readResources(Collection, Class)
+     */
+    public <T extends PassEntity> Map<URI, T> readResources(Collection<URI> uris, Class<T> modelClass) {
+        if (uris == null) {
+            throw new IllegalArgumentException("uris cannot be null");
+        }
+        for (URI uri : uris) {
+            if (uri == null) {
+                throw new IllegalArgumentException("uris cannot contain null");
+            }
         }
 
-        try (FcrepoResponse response = new GetBuilder(uri, client)
-            .accept(COMPACTED_ACCEPTTYPE)
-            .preferRepresentation(null, omits)
-            .perform()) {
-
-            LOG.info("Resource read status for {}: {}", uri, response.getStatusCode());
-            T model = adapter.toModel(response.getBody(), modelClass);
+        // each URI is read once, however many times it is given
+        List<URI> distinct = new ArrayList<>(new LinkedHashSet<>(uris));
+        List<CompletableFuture<T>> reads = fanOut(distinct, uri -> "", uri -> readResourceAsync(uri, modelClass));
 
-            //remove the etag prefix, not needed for version comparison
-            String etag = response.getHeaderValue(ETAG_HEADER);
-            if (etag != null && etag.contains(ETAG_WEAK_PREFIX)) {
-                etag = etag.replace(ETAG_WEAK_PREFIX, "");
+        Map<URI, T> results = new LinkedHashMap<>();
+        Map<URI, Throwable> failures = new LinkedHashMap<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            try {
+                results.put(distinct.get(i), reads.get(i).join());
+            } catch (CompletionException | CancellationException e) {
+                failures.put(distinct.get(i), unwrap(e));
             }
-            model.setVersionTag(etag);
-
-            return model;
+        }
 
-        } catch (IOException | FcrepoOperationFailedException e) {
-            throw new RuntimeException("A problem occurred while attempting to read a Resource", e);
+        if (!failures.isEmpty()) {
+            throw new BatchReadException(format("Failed to read %s of %s resources", failures.size(),
+                                                distinct.size()), results, failures);
         }
+        return results;
     }
 
     /**
@@ -296,54 +601,7 @@ public class FedoraPassCrudClient {
      * @see org.dataconservancy.pass.client.PassClient#getIncoming(URI)
      */
     public Map<String, Collection<URI>> getIncoming(URI passEntityUri) {
-        List<URI> include = Collections.singletonList(URI.create(INCOMING_INCLUDETYPE));
-        List<URI> omits = Collections.singletonList(URI.create(SERVER_MANAGED_OMITTYPE));
-
-        try (FcrepoResponse response = new GetBuilder(passEntityUri, client)
-            .accept(COMPACTED_ACCEPTTYPE)
-            .preferRepresentation(include, omits)
-            .perform()) {
-
-            LOG.info("Resource read status: for {}: {}", passEntityUri, response.getStatusCode());
-
-            JsonNode raw = new ObjectMapper().readTree(response.getBody());
-            JsonNode graph = raw.withArray("@graph");
-
-            if (graph == null || graph.size() < 1) {
-                return Collections.emptyMap();
-            }
-
-            Map<String, Collection<URI>> result = new ConcurrentHashMap<>();
-
-            graph.elements().forEachRemaining((node) -> {
-                if (!node.has("@id")) {
-                    return;
-                }
-
-                URI incomingLink = URI.create(node.get("@id").asText());
-
-                // Filter out any nodes in the graph that refer to the requested PASS entity
-                // Remaining nodes in the graph are incoming links
-                if (passEntityUri.toString().equals(incomingLink.toString())) {
-                    return;
-                }
-
-                node.fieldNames().forEachRemaining(field -> {
-                    if ("@id".equals(field)) {
-                        return;
-                    }
-
-                    Collection<URI> uris = result.getOrDefault(field, new HashSet<>());
-                    uris.add(incomingLink);
-                    result.putIfAbsent(field, uris);
-                });
-            });
-
-            return result;
-
-        } catch (IOException | FcrepoOperationFailedException e) {
-            throw new RuntimeException("A problem occurred while attempting to read a Resource", e);
-        }
+        return await(getIncoming(passEntityUri, true));
     }
 
     /**
@@ -355,6 +613,10 @@ public class FedoraPassCrudClient {
      * @see PassClientDefault#upload(URI, InputStream, Map)
      */
     public URI upload(URI passEntityUri, InputStream content, Map<String, ?> params) {
+        if (inTransaction()) {
+            return execute(uploadRequest(passEntityUri, content, params), uploadHandler(passEntityUri),
+                           e -> uploadError(passEntityUri, e));
+        }
         PostBuilder builder = new PostBuilder(passEntityUri, client);
 
         if (params.containsKey("content-type")) {
@@ -426,9 +688,209 @@ public class FedoraPassCrudClient {
             depth(1).or(SKIP_ACLS));
     }
 
+    /**
+     * @param modelObj modelObj
+     * @return future URI
+     * @see org.dataconservancy.pass.client.AsyncPassClient#createResourceAsync(PassEntity)
+     */
+    public CompletableFuture<URI> createResourceAsync(PassEntity modelObj) {
+        CompletableFuture<PassEntity> created = createAndReadResourceAsync(modelObj);
+        return cancelling(created, created.thenApply(PassEntity::getId));
+    }
+
+    /**
+     * @param modelObj   modelObj
+     * @param modelClass modelClass
+     * @param <T>        PASS entity type
+     * @return future PASS entity
+     * @see org.dataconservancy.pass.client.AsyncPassClient#createAndReadResourceAsync(PassEntity, Class)
+     */
+    public <T extends PassEntity> CompletableFuture<T> createAndReadResourceAsync(T modelObj, Class<T> modelClass) {
+        return createAndReadResourceAsync(modelObj);
+    }
+
+    /**
+     * @param modelObj modelObj
+     * @return future that completes when the update is done
+     * @see org.dataconservancy.pass.client.AsyncPassClient#updateResourceAsync(PassEntity)
+     */
+    public CompletableFuture<Void> updateResourceAsync(PassEntity modelObj) {
+        if (modelObj.isIndexSourced()) {
+            CompletableFuture<Void> refused = new CompletableFuture<>();
+            refused.completeExceptionally(indexSourcedError(modelObj));
+            return refused;
+        }
+        invalidate(modelObj.getId());
+        return executeAsync(updateRequest(modelObj), res -> {
+            invalidate(modelObj.getId());
+            return handleUpdateResponse(modelObj, res);
+        }, e -> updateError(modelObj, e));
+    }
+
+    /**
+     * @param modelObj   modelObj
+     * @param modelClass modelClass
+     * @param <T>        PASS entity type
+     * @return future PASS entity
+     * @see org.dataconservancy.pass.client.AsyncPassClient#updateAndReadResourceAsync(PassEntity, Class)
+     */
+    public <T extends PassEntity> CompletableFuture<T> updateAndReadResourceAsync(T modelObj, Class<T> modelClass) {
+        PassTransaction tx = currentTransaction();
+        CompletableFuture<Void> updated = updateResourceAsync(modelObj);
+        return cancelling(updated, updated.thenCompose(v -> readResource(tx, modelObj.getId(), modelClass, false)));
+    }
+
+    /**
+     * @param uri uri
+     * @return future that completes when the resource is deleted
+     * @see org.dataconservancy.pass.client.AsyncPassClient#deleteResourceAsync(URI)
+     */
+    public CompletableFuture<Void> deleteResourceAsync(URI uri) {
+        invalidate(uri);
+        return executeAsync(deleteRequest(uri), deleteHandler(uri), FedoraPassCrudClient::deleteError);
+    }
+
+    private static Request deleteRequest(URI uri) {
+        return new Request.Builder().url(uri.toString()).delete().build();
+    }
+
+    private ResponseHandler<Void> deleteHandler(URI uri) {
+        return res -> {
+            invalidate(uri);
+            LOG.info("Resource deletion status for {}: {}", uri, res.code());
+            handleNon2xx("delete", uri, res);
+            return null;
+        };
+    }
+
+    private static RuntimeException deleteError(Exception e) {
+        return new RuntimeException("A problem occurred while attempting to delete a Resource", e);
+    }
+
+    /**
+     * @param uri        uri
+     * @param modelClass modelClass
+     * @param <T>        PASS entity type
+     * @return future PASS entity
+     * @see org.dataconservancy.pass.client.AsyncPassClient#readResourceAsync(URI, Class)
+     */
+    public <T extends PassEntity> CompletableFuture<T> readResourceAsync(URI uri, Class<T> modelClass) {
+        return readResource(currentTransaction(), uri, modelClass, false);
+    }
+
+    /**
+     * Read a resource through the given transaction, or outside of any transaction if {@code null}
+     *
+     * @param blocking true to make the request on the calling thread, which returns a completed future
+     */
+    private <T extends PassEntity> CompletableFuture<T> readResource(PassTransaction tx, URI uri,
+                                                                     Class<T> modelClass, boolean blocking) {
+        if (tx != null) {
+            return fetchResource(tx, uri, modelClass, blocking);
+        }
+        // concurrent reads of the same resource share one request
+        return readsInFlight.execute(Arrays.asList(uri, modelClass),
+                                     () -> fetchResource(null, uri, modelClass, blocking)
+                                         .thenApply(PassEntity.class::cast))
+                            .thenApply(modelClass::cast);
+    }
+
+    private <T extends PassEntity> CompletableFuture<T> fetchResource(PassTransaction tx, URI uri,
+                                                                      Class<T> modelClass, boolean blocking) {
+        // changes within a transaction are not visible outside of it, so are not cached
+        EntityCache cache = tx == null ? entityCache : null;
+        EntityCache.Entry cached = cache != null ? cache.get(uri, modelClass) : null;
+
+        Request request = getRequest(uri, null);
+        if (cached != null) {
+            if (cache.isFresh(cached)) {
+                cache.hit();
+                return CompletableFuture.completedFuture(cached.getEntity(modelClass));
+            }
+            request = request.newBuilder().header(IF_NONE_MATCH_HEADER, cached.getEtag()).build();
+        }
+
+        return call(tx, request, blocking, res -> {
+            LOG.info("Resource read status for {}: {}", uri, res.code());
+            if (cached != null && res.code() == HttpStatus.SC_NOT_MODIFIED) {
+                cache.revalidated(cached);
+                cache.hit();
+                return cached.getEntity(modelClass);
+            }
+            handleNon2xx("read", uri, res);
+
+            String etag = res.header(ETAG_HEADER);
+            T model = readModel(res.body().byteStream(), etag, modelClass);
+            if (cache != null) {
+                cache.miss();
+                cache.put(uri, model, etag);
+            }
+            return model;
+        }, e -> new RuntimeException("A problem occurred while attempting to read a Resource", e));
+    }
+
+    /**
+     * @param passEntityUri pass entity URI
+     * @return future map
+     * @see org.dataconservancy.pass.client.AsyncPassClient#getIncomingAsync(URI)
+     */
+    public CompletableFuture<Map<String, Collection<URI>>> getIncomingAsync(URI passEntityUri) {
+        return getIncoming(passEntityUri, false);
+    }
+
+    private CompletableFuture<Map<String, Collection<URI>>> getIncoming(URI passEntityUri, boolean blocking) {
+        if (inTransaction()) {
+            return fetchIncoming(passEntityUri, blocking);
+        }
+        // concurrent reads of the same resource share one request
+        return incomingInFlight.execute(passEntityUri, () -> fetchIncoming(passEntityUri, blocking));
+    }
+
+    private CompletableFuture<Map<String, Collection<URI>>> fetchIncoming(URI passEntityUri, boolean blocking) {
+        return call(currentTransaction(), getRequest(passEntityUri, INCOMING_INCLUDETYPE), blocking, res -> {
+            LOG.info("Resource read status: for {}: {}", passEntityUri, res.code());
+            handleNon2xx("read", passEntityUri, res);
+            return parseIncoming(passEntityUri, res.body().byteStream());
+        }, e -> new RuntimeException("A problem occurred while attempting to read a Resource", e));
+    }
+
+    /**
+     * @param passEntityUri PASS entity
+     * @param content       content to upload
+     * @param params        parameters
+     * @return future URI of uploaded content
+     * @see org.dataconservancy.pass.client.AsyncPassClient#uploadAsync(URI, InputStream, Map)
+     */
+    public CompletableFuture<URI> uploadAsync(URI passEntityUri, InputStream content, Map<String, ?> params) {
+        return executeAsync(uploadRequest(passEntityUri, content, params), uploadHandler(passEntityUri),
+                            e -> uploadError(passEntityUri, e));
+    }
+
+    private static ResponseHandler<URI> uploadHandler(URI passEntityUri) {
+        return res -> {
+            handleNon2xx("upload content to", passEntityUri, res);
+            String location = res.header(LOCATION_HEADER);
+            return location != null ? URI.create(location) : null;
+        };
+    }
+
+    private static RuntimeException uploadError(URI passEntityUri, Exception e) {
+        return new RuntimeException("An problem occurred while POSTing binary content to Resource " +
+                                    passEntityUri + ": " + e.getMessage(), e);
+    }
+
+    private <T extends PassEntity> CompletableFuture<T> createAndReadResourceAsync(T modelObj) {
+        return executeAsync(createRequest(modelObj), res -> handleCreateResponse(modelObj, res),
+                            FedoraPassCrudClient::createError);
+    }
+
     private <T extends PassEntity> T createInternal(T modelObj, boolean includeContext) {
-        byte[] json = adapter.toJson(modelObj, true);
-        RequestBody body = RequestBody.create(MediaType.parse(JSONLD_CONTENTTYPE), json);
+        return execute(createRequest(modelObj), res -> handleCreateResponse(modelObj, res),
+                       FedoraPassCrudClient::createError);
+    }
+
+    private <T extends PassEntity> Request createRequest(T modelObj) {
+        RequestBody body = new PassEntityRequestBody(modelObj, adapter, MediaType.parse(JSONLD_CONTENTTYPE));
 
         URI container = null;
         try {
@@ -437,37 +899,64 @@ public class FedoraPassCrudClient {
             throw new RuntimeException("Container name could not be converted to a URI", e);
         }
 
-        Request.Builder reqBuilder = new Request.Builder()
+        return new Request.Builder()
             .url(container.toString())
             .post(body)
             .addHeader(ACCEPT_HEADER, COMPACTED_ACCEPTTYPE)
-            .addHeader(PREFER_HEADER, "return=representation; omits=\"" + SERVER_MANAGED_OMITTYPE + "\"");
+            .addHeader(PREFER_HEADER, "return=representation; omits=\"" + SERVER_MANAGED_OMITTYPE + "\"")
+            .build();
+    }
 
-        try (Response res = okHttpClient.newCall(reqBuilder.build()).execute()) {
-            handleNon2xx(modelObj, res);
+    private <T extends PassEntity> T handleCreateResponse(T modelObj, Response res) throws IOException {
+        handleNon2xx(modelObj, res);
 
-            PassEntity entity = adapter.toModel(res.body().byteStream(), modelObj.getClass());
-            LOG.info("Creation status and location: {}: {}", res.code(), entity.getId());
+        PassEntity entity = adapter.toModel(res.body().byteStream(), modelObj.getClass());
+        LOG.info("Creation status and location: {}: {}", res.code(), entity.getId());
 
-            return (T) entity;
-        } catch (Exception e) {
-            throw new RuntimeException("A problem occurred while attempting to create a Resource: " +
-                                       e.getMessage(), e);
-        }
+        return (T) entity;
+    }
+
+    private static RuntimeException createError(Exception e) {
+        return new RuntimeException("A problem occurred while attempting to create a Resource: " +
+                                    e.getMessage(), e);
     }
 
     private <T extends PassEntity> T updateInternal(T modelObj, boolean includeContext, boolean performRead) {
-        byte[] json = adapter.toJson(modelObj, true);
+        if (modelObj.isIndexSourced()) {
+            throw indexSourcedError(modelObj);
+        }
+        invalidate(modelObj.getId());
+        try {
+            execute(updateRequest(modelObj), res -> handleUpdateResponse(modelObj, res),
+                    e -> updateError(modelObj, e));
+        } finally {
+            invalidate(modelObj.getId());
+        }
+
+        return performRead ? readResource(modelObj.getId(), (Class<T>) modelObj.getClass()) : null;
+    }
 
+    /**
+     * An entity read from the index may be out of date and has no version tag, so updating the repository with it
+     * could silently undo other changes.
+     */
+    private static IllegalArgumentException indexSourcedError(PassEntity modelObj) {
+        return new IllegalArgumentException(
+            String.format("%s %s was read from the index, so cannot be used for an update. Read it from the " +
+                          "repository first", modelObj.getClass().getSimpleName(), modelObj.getId()));
+    }
+
+    private <T extends PassEntity> Request updateRequest(T modelObj) {
         Request.Builder reqBuilder = new Request.Builder()
             .url(modelObj.getId().toString())
             .addHeader(ACCEPT_HEADER, COMPACTED_ACCEPTTYPE);
 
         if (overwriteOnUpdate) {
-            RequestBody body = RequestBody.create(MediaType.parse(JSONLD_CONTENTTYPE), json);
+            RequestBody body = new PassEntityRequestBody(modelObj, adapter, MediaType.parse(JSONLD_CONTENTTYPE));
             reqBuilder.put(body).addHeader(PREFER_HEADER, PREFER_LENIENT_VAL);
         } else {
-            RequestBody body = RequestBody.create(MediaType.parse(JSONLD_PATCH_CONTENTTYPE), json);
+            RequestBody body = new PassEntityRequestBody(modelObj, adapter,
+                                                         MediaType.parse(JSONLD_PATCH_CONTENTTYPE));
             reqBuilder.patch(body);
         }
 
@@ -478,31 +967,407 @@ public class FedoraPassCrudClient {
                      modelObj.getClass().getName(), modelObj.getId());
         }
 
-        try (Response res = okHttpClient.newCall(reqBuilder.build()).execute()) {
-            if (res.code() == HttpStatus.SC_PRECONDITION_FAILED) {
-                String msg = format("Failed to update %s - the data may have changed since %s was last retrieved.",
-                                    modelObj.getId(), modelObj.getId());
-                throw new UpdateConflictException(msg);
+        return reqBuilder.build();
+    }
+
+    private static <T extends PassEntity> Void handleUpdateResponse(T modelObj, Response res) throws IOException {
+        if (res.code() == HttpStatus.SC_PRECONDITION_FAILED) {
+            String msg = format("Failed to update %s - the data may have changed since %s was last retrieved.",
+                                modelObj.getId(), modelObj.getId());
+            throw new UpdateConflictException(msg, versionTag(res.header(ETAG_HEADER)));
+        }
+        LOG.info("Resource update status for {}: {}", modelObj.getId(), res.code());
+        handleNon2xx(modelObj, res);
+        return null;
+    }
+
+    private static RuntimeException updateError(PassEntity modelObj, Exception e) {
+        if (e instanceof UpdateConflictException) {
+            return (UpdateConflictException) e;
+        }
+        String msg = format("A problem occurred while attempting to update Resource %s: %s ",
+                            modelObj.getId(), e.getMessage());
+        return new RuntimeException(msg, e);
+    }
+
+    private CompletableFuture<String> currentVersionTagAsync(URI uri) {
+        Request head = new Request.Builder().url(uri.toString()).head().build();
+        return executeAsync(head, res -> {
+            handleNon2xx("read", uri, res);
+            return versionTag(res.header(ETAG_HEADER));
+        }, e -> new RuntimeException("A problem occurred while attempting to read a Resource", e));
+    }
+
+    /**
+     * Build a GET for the compacted JSON-LD representation of a resource, omitting server managed triples.
+     *
+     * @param uri     the resource
+     * @param include additional representation to include, or {@code null}
+     * @return the request
+     */
+    private static Request getRequest(URI uri, String include) {
+        StringBuilder prefer = new StringBuilder("return=representation");
+        if (include != null) {
+            prefer.append("; include=\"").append(include).append("\"");
+        }
+        prefer.append("; omit=\"").append(SERVER_MANAGED_OMITTYPE).append("\"");
+
+        return new Request.Builder()
+            .url(uri.toString())
+            .get()
+            .addHeader(ACCEPT_HEADER, COMPACTED_ACCEPTTYPE)
+            .addHeader(PREFER_HEADER, prefer.toString())
+            .build();
+    }
+
+    /**
+     * Build a POST of binary content, mirroring the parameters supported by
+     * {@link #upload(URI, InputStream, Map)}.
+     */
+    private static Request uploadRequest(URI passEntityUri, InputStream content, Map<String, ?> params) {
+        MediaType contentType = MediaType.parse(params.containsKey("content-type")
+                                                ? (String) params.get("content-type") : DEFAULT_CONTENTTYPE);
+
+        RequestBody body = new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return contentType;
             }
-            LOG.info("Resource update status for {}: {}", modelObj.getId(), res.code());
-            handleNon2xx(modelObj, res);
-        } catch (UpdateConflictException e) {
-            throw e;
+
+            @Override
+            public boolean isOneShot() {
+                return true;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                try (Source source = Okio.source(content)) {
+                    sink.writeAll(source);
+                }
+            }
+        };
+
+        Request.Builder reqBuilder = new Request.Builder().url(passEntityUri.toString()).post(body);
+
+        if (params.containsKey("slug")) {
+            reqBuilder.addHeader(SLUG_HEADER, (String) params.get("slug"));
+        }
+
+        StringJoiner digest = new StringJoiner(",");
+        for (String algorithm : new String[] {"sha256", "md5", "sha1"}) {
+            if (params.containsKey(algorithm)) {
+                digest.add(algorithm + "=" + params.get(algorithm));
+            }
+        }
+        if (digest.length() > 0) {
+            reqBuilder.addHeader(DIGEST_HEADER, digest.toString());
+        }
+
+        if (params.containsKey("filename")) {
+            try {
+                reqBuilder.addHeader(CONTENT_DISPOSITION_HEADER, "attachment; filename=\"" +
+                                     URLEncoder.encode((String) params.get("filename"), "utf-8") + "\"");
+            } catch (UnsupportedEncodingException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+        }
+
+        return reqBuilder.build();
+    }
+
+    /**
+     * Map a JSON-LD representation to a PASS entity, setting its version tag from the ETag.
+     */
+    private <T extends PassEntity> T readModel(InputStream body, String etag, Class<T> modelClass) {
+        T model = adapter.toModel(body, modelClass);
+        model.setVersionTag(versionTag(etag));
+        return model;
+    }
+
+    private static String versionTag(String etag) {
+        //remove the etag prefix, not needed for version comparison
+        if (etag != null && etag.contains(ETAG_WEAK_PREFIX)) {
+            etag = etag.replace(ETAG_WEAK_PREFIX, "");
+        }
+        return etag;
+    }
+
+    /**
+     * Collect the incoming links from a JSON-LD representation which includes inbound references.
+     */
+    private static Map<String, Collection<URI>> parseIncoming(URI passEntityUri, InputStream body)
+        throws IOException {
+        JsonNode raw = JSON_READER.readTree(body);
+        JsonNode graph = raw.withArray("@graph");
+
+        if (graph == null || graph.size() < 1) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Collection<URI>> result = new ConcurrentHashMap<>();
+
+        graph.elements().forEachRemaining((node) -> {
+            if (!node.has("@id")) {
+                return;
+            }
+
+            URI incomingLink = URI.create(node.get("@id").asText());
+
+            // Filter out any nodes in the graph that refer to the requested PASS entity
+            // Remaining nodes in the graph are incoming links
+            if (passEntityUri.toString().equals(incomingLink.toString())) {
+                return;
+            }
+
+            node.fieldNames().forEachRemaining(field -> {
+                if ("@id".equals(field)) {
+                    return;
+                }
+
+                Collection<URI> uris = result.getOrDefault(field, new HashSet<>());
+                uris.add(incomingLink);
+                result.putIfAbsent(field, uris);
+            });
+        });
+
+        return result;
+    }
+
+    /**
+     * Execute a request, handing the response to the handler. The response is closed afterwards.
+     */
+    private <R> R execute(Request request, ResponseHandler<R> handler, Function<Exception, RuntimeException> onError) {
+        return execute(currentTransaction(), request, handler, onError);
+    }
+
+    /**
+     * Execute a request through the given transaction, or outside of any transaction if {@code null}.
+     */
+    private <R> R execute(PassTransaction tx, Request request, ResponseHandler<R> handler,
+                          Function<Exception, RuntimeException> onError) {
+        try (Response res = okHttpClient.newCall(tx == null ? request : tx.toTransaction(request)).execute()) {
+            return handler.handle(tx == null ? res : tx.fromTransaction(res));
         } catch (Exception e) {
-            String msg = format("A problem occurred while attempting to update Resource %s: %s ",
-                                modelObj.getId(), e.getMessage());
-            throw new RuntimeException(msg, e);
+            throw onError.apply(e);
         }
+    }
 
-        return performRead ? readResource(modelObj.getId(), (Class<T>) modelObj.getClass()) : null;
+    /**
+     * Make a request on the calling thread, returning a completed future, or enqueue it. Synchronous calls thereby
+     * keep to the calling thread rather than waiting for a place on the dispatcher behind asynchronous requests.
+     */
+    private <R> CompletableFuture<R> call(PassTransaction tx, Request request, boolean blocking,
+                                          ResponseHandler<R> handler, Function<Exception, RuntimeException> onError) {
+        if (!blocking) {
+            return executeAsync(tx, request, handler, onError);
+        }
+        CompletableFuture<R> result = new CompletableFuture<>();
+        try {
+            result.complete(execute(tx, request, handler, onError));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Enqueue a request, completing the returned future with the result of the handler. The response is closed
+     * afterwards. Cancelling the future cancels the request.
+     */
+    private <R> CompletableFuture<R> executeAsync(Request request, ResponseHandler<R> handler,
+                                                  Function<Exception, RuntimeException> onError) {
+        return executeAsync(currentTransaction(), request, handler, onError);
+    }
+
+    /**
+     * Enqueue a request through the given transaction, or outside of any transaction if {@code null}.
+     */
+    private <R> CompletableFuture<R> executeAsync(PassTransaction tx, Request request, ResponseHandler<R> handler,
+                                                  Function<Exception, RuntimeException> onError) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        Call call = okHttpClient.newCall(tx == null ? request : tx.toTransaction(request));
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                result.completeExceptionally(onError.apply(e));
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (Response res = response) {
+                    result.complete(handler.handle(tx == null ? res : tx.fromTransaction(res)));
+                } catch (Exception e) {
+                    result.completeExceptionally(onError.apply(e));
+                }
+            }
+        });
+
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Create each entity, keeping no more than batchParallelism POSTs in flight to any one container, and report
+     * the outcome for each in order.
+     */
+    private <T extends PassEntity, R> List<BatchResult<R>> createBatch(List<T> modelObjs,
+                                                                       Function<T, CompletableFuture<R>> create) {
+        if (modelObjs == null) {
+            throw new IllegalArgumentException("modelObjs cannot be null");
+        }
+
+        List<CompletableFuture<R>> creates = fanOut(modelObjs, FedoraPassCrudClient::containerOf, create);
+
+        List<BatchResult<R>> results = new ArrayList<>(modelObjs.size());
+        for (int i = 0; i < modelObjs.size(); i++) {
+            try {
+                results.add(BatchResult.success(modelObjs.get(i), creates.get(i).join()));
+            } catch (CompletionException | CancellationException e) {
+                results.add(BatchResult.failure(modelObjs.get(i), unwrap(e)));
+            }
+        }
+        return results;
+    }
+
+    private static Object containerOf(PassEntity modelObj) {
+        return modelObj == null ? "" : modelObj.getClass();
+    }
+
+    /**
+     * Start an asynchronous operation for each key, keeping no more than batchParallelism in flight at once for any
+     * one partition, and wait for all of them to finish. Returns the completed futures, in the order of the keys.
+     */
+    private <K, R> List<CompletableFuture<R>> fanOut(List<K> keys, Function<K, Object> partition,
+                                                     Function<K, CompletableFuture<R>> operation) {
+        Map<Object, Semaphore> windows = new HashMap<>();
+        List<CompletableFuture<R>> futures = new ArrayList<>(keys.size());
+
+        try {
+            for (K key : keys) {
+                Semaphore window = windows.computeIfAbsent(partition.apply(key),
+                                                           p -> new Semaphore(batchParallelism));
+                window.acquire();
+                CompletableFuture<R> future;
+                try {
+                    future = operation.apply(key);
+                } catch (RuntimeException e) {
+                    future = new CompletableFuture<>();
+                    future.completeExceptionally(e);
+                }
+                future.whenComplete((r, e) -> window.release());
+                futures.add(future);
+            }
+
+            // wait for the last operations still in flight
+            for (Semaphore window : windows.values()) {
+                window.acquire(batchParallelism);
+                window.release(batchParallelism);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new RuntimeException("Interrupted while waiting for batch requests to complete", e);
+        }
+
+        return futures;
+    }
+
+    /**
+     * Remove a resource from the entity cache, if there is one
+     */
+    private void invalidate(URI uri) {
+        if (entityCache != null && uri != null) {
+            entityCache.invalidate(uri);
+        }
+    }
+
+    /**
+     * Copy an entity shared between callers, so that each may modify its own
+     */
+    private static PassEntity copyOf(PassEntity entity) {
+        PassEntity copy = EntityCache.copy(entity);
+        return copy != null ? copy : entity;
+    }
+
+    private static Map<String, Collection<URI>> copyOf(Map<String, Collection<URI>> incoming) {
+        Map<String, Collection<URI>> copy = new ConcurrentHashMap<>();
+        incoming.forEach((field, uris) -> copy.put(field, new HashSet<>(uris)));
+        return copy;
+    }
+
+    /**
+     * Whether requests from the current thread go through a transaction
+     *
+     * @return true if a transaction is open on this thread
+     */
+    public boolean inTransaction() {
+        return currentTransaction() != null;
+    }
+
+    /**
+     * The transaction open on the current thread, if any. A transaction may be committed or rolled back from
+     * another thread, or expire, leaving this thread's reference to it stale; such a transaction is forgotten
+     * rather than used.
+     *
+     * @return the open transaction, or null
+     */
+    public PassTransaction currentTransaction() {
+        PassTransaction tx = transaction.get();
+        if (tx != null && !tx.isActive()) {
+            transaction.remove();
+            return null;
+        }
+        return tx;
+    }
+
+    /**
+     * Wait for an asynchronous request, throwing its failure as-is
+     */
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
     }
 
     private static <T extends PassEntity> void handleNon2xx(T modelObj, Response res) throws IOException {
+        handleNon2xx("update", modelObj.getId(), res);
+    }
+
+    private static void handleNon2xx(String action, URI uri, Response res) throws IOException {
         if (res.code() < 200 || res.code() > 299) {
-            String msg = format("Failed to update %s - unexpected status code %s: %s",
-                                modelObj.getId(), res.code(), res.body().string());
+            String msg = format("Failed to %s %s - unexpected status code %s: %s",
+                                action, uri, res.code(), res.body().string());
             throw new RuntimeException(msg);
         }
     }
 
+    /**
+     * Handles an HTTP response, producing a result.
+     *
+     * @param <R> result type
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<R> {
+        R handle(Response res) throws IOException;
+    }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.fedora;
+
+import java.io.IOException;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.dataconservancy.pass.client.PassJsonAdapter;
+import org.dataconservancy.pass.model.PassEntity;
+
+/**
+ * Request body holding the JSON-LD of a PASS entity, which is written straight to the connection as the request is
+ * sent rather than being built in memory beforehand. Large values, such as a Submission's metadata, are therefore
+ * never held as a separate copy.
+ * <p>
+ * The JSON is generated each time the body is written, so that OkHttp can resend it on retry. The entity should not
+ * be modified until the request completes.
+ * </p>
+ */
+class PassEntityRequestBody extends RequestBody {
+
+    private final PassEntity entity;
+
+    private final PassJsonAdapter adapter;
+
+    private final MediaType contentType;
+
+    /**
+     * @param entity      entity to send, with the PASS context
+     * @param adapter     adapter to write the JSON with
+     * @param contentType media type of the body
+     */
+    PassEntityRequestBody(PassEntity entity, PassJsonAdapter adapter, MediaType contentType) {
+        this.entity = entity;
+        this.adapter = adapter;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        adapter.writeJson(entity, true, sink.outputStream());
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.fedora;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ByteString;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Fedora transaction, begun with {@link FedoraPassCrudClient#beginTransaction()}. Until the transaction is
+ * committed or rolled back, every request the client makes from the thread that began it goes through the
+ * transaction, and is only visible outside of it once committed. The transaction is kept alive in the background
+ * while it is open.
+ * <p>
+ * Intended for use with try-with-resources; closing a transaction that has not been committed rolls it back:
+ * </p>
+ * <pre>
+ * try (PassTransaction tx = client.beginTransaction()) {
+ *     client.createResource(submission);
+ *     client.createResource(deposit);
+ *     tx.commit();
+ * }
+ * </pre>
+ */
+public class PassTransaction implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PassTransaction.class);
+
+    private static final String TX_ENDPOINT = "fcr:tx";
+    private static final String COMMIT_ENDPOINT = "fcr:tx/fcr:commit";
+    private static final String ROLLBACK_ENDPOINT = "fcr:tx/fcr:rollback";
+    private static final String LOCATION_HEADER = "Location";
+
+    /**
+     * Keeps open transactions alive; shared by all transactions
+     */
+    private static final ScheduledExecutorService KEEP_ALIVE = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "pass-fedora-tx-keepalive");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final OkHttpClient okHttpClient;
+
+    private final URI uri;
+
+    private final String baseUrl;
+
+    private final String txUrl;
+
+    private final Consumer<PassTransaction> onEnd;
+
+    private final ScheduledFuture<?> keepAlive;
+
+    private volatile boolean active = true;
+
+    private boolean committed = false;
+
+    /**
+     * Run once the transaction is committed
+     */
+    private final List<Runnable> commitActions = new ArrayList<>();
+
+    /**
+     * Begin a transaction
+     *
+     * @param okHttpClient     client used for transaction requests
+     * @param baseUrl          the Fedora baseUrl
+     * @param keepAliveSeconds how often to renew the transaction
+     * @param onEnd            called once the transaction is committed or rolled back
+     * @return the transaction
+     */
+    static PassTransaction begin(OkHttpClient okHttpClient, String baseUrl, int keepAliveSeconds,
+                                 Consumer<PassTransaction> onEnd) {
+        Request request = new Request.Builder()
+            .url(baseUrl + TX_ENDPOINT)
+            .post(RequestBody.create(new byte[0], null))
+            .build();
+
+        try (Response res = okHttpClient.newCall(request).execute()) {
+            String location = res.header(LOCATION_HEADER);
+            if (!res.isSuccessful() || location == null) {
+                throw new RuntimeException(format("Failed to begin a transaction - unexpected status code %s: %s",
+                                                  res.code(), res.body().string()));
+            }
+            LOG.info("Began transaction {}", location);
+            return new PassTransaction(okHttpClient, URI.create(location), baseUrl, keepAliveSeconds, onEnd);
+        } catch (IOException e) {
+            throw new RuntimeException("A problem occurred while attempting to begin a transaction", e);
+        }
+    }
+
+    private PassTransaction(OkHttpClient okHttpClient, URI uri, String baseUrl, int keepAliveSeconds,
+                            Consumer<PassTransaction> onEnd) {
+        this.okHttpClient = okHttpClient;
+        this.uri = uri;
+        this.baseUrl = baseUrl;
+        this.txUrl = uri.toString().endsWith("/") ? uri.toString() : uri.toString() + "/";
+        this.onEnd = onEnd;
+        this.keepAlive = KEEP_ALIVE.scheduleWithFixedDelay(this::renew, keepAliveSeconds, keepAliveSeconds,
+                                                           TimeUnit.SECONDS);
+    }
+
+    /**
+     * The URI of the transaction
+     *
+     * @return transaction URI
+     */
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * Whether the transaction is still open
+     *
+     * @return true if neither committed, rolled back, nor found to have expired
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Commit the transaction, making every change made within it visible. If the commit fails, the transaction
+     * remains open and may be rolled back.
+     */
+    public void commit() {
+        finish(COMMIT_ENDPOINT, "commit", false);
+    }
+
+    /**
+     * Run an action once the transaction has been committed, for example to discard cached results that the changes
+     * made within it affect. The action is run straight away if the transaction has already been committed, and never
+     * if it is rolled back. An action that fails is logged, and does not affect the commit or other actions.
+     *
+     * @param action action to run
+     */
+    public void onCommit(Runnable action) {
+        synchronized (this) {
+            if (!committed) {
+                if (active) {
+                    commitActions.add(action);
+                }
+                return;
+            }
+        }
+        run(action);
+    }
+
+    /**
+     * Roll back the transaction, discarding every change made within it
+     */
+    public void rollback() {
+        finish(ROLLBACK_ENDPOINT, "roll back", true);
+    }
+
+    /**
+     * Roll back the transaction, if it has not already been committed or rolled back
+     */
+    @Override
+    public void close() {
+        if (active) {
+            rollback();
+        }
+    }
+
+    /**
+     * Rewrite a request to go through this transaction
+     */
+    Request toTransaction(Request request) {
+        String url = request.url().toString();
+        if (url.startsWith(baseUrl) && !url.startsWith(txUrl)) {
+            return request.newBuilder().url(txUrl + url.substring(baseUrl.length())).build();
+        }
+        return request;
+    }
+
+    /**
+     * Rewrite the transaction's URIs in a response back to their URIs outside of the transaction
+     */
+    Response fromTransaction(Response response) throws IOException {
+        Response.Builder builder = response.newBuilder();
+
+        String location = response.header(LOCATION_HEADER);
+        if (location != null) {
+            builder.header(LOCATION_HEADER, location.replace(txUrl, baseUrl));
+        }
+
+        ResponseBody body = response.body();
+        if (body != null) {
+            MediaType contentType = body.contentType();
+            Source rewritten = new RewritingSource(body.source(), ByteString.encodeUtf8(txUrl),
+                                                   ByteString.encodeUtf8(baseUrl));
+            builder.body(ResponseBody.create(Okio.buffer(rewritten), contentType, -1));
+        }
+
+        return builder.build();
+    }
+
+    private void renew() {
+        if (!active) {
+            return;
+        }
+        try (Response res = okHttpClient.newCall(post(TX_ENDPOINT)).execute()) {
+            if (res.code() == 404 || res.code() == 410) {
+                expire();
+            } else if (!res.isSuccessful()) {
+                LOG.warn("Failed to keep transaction {} alive - unexpected status code {}", uri, res.code());
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to keep transaction {} alive: {}", uri, e.getMessage());
+        }
+    }
+
+    /**
+     * The transaction no longer exists in Fedora; stop using it. The client notices on its next request, from
+     * whichever thread began the transaction.
+     */
+    private synchronized void expire() {
+        if (active) {
+            LOG.warn("Transaction {} has expired", uri);
+            active = false;
+            keepAlive.cancel(false);
+            commitActions.clear();
+        }
+    }
+
+    private void finish(String endpoint, String action, boolean endOnFailure) {
+        List<Runnable> actions;
+        synchronized (this) {
+            end(endpoint, action, endOnFailure);
+            actions = committed ? new ArrayList<>(commitActions) : new ArrayList<>();
+            commitActions.clear();
+        }
+        actions.forEach(this::run);
+    }
+
+    private void end(String endpoint, String action, boolean endOnFailure) {
+        if (!active) {
+            throw new IllegalStateException(format("Cannot %s transaction %s, it has already ended", action, uri));
+        }
+
+        boolean succeeded = false;
+        try (Response res = okHttpClient.newCall(post(endpoint)).execute()) {
+            if (!res.isSuccessful()) {
+                throw new RuntimeException(format("Failed to %s transaction %s - unexpected status code %s: %s",
+                                                  action, uri, res.code(), res.body().string()));
+            }
+            succeeded = true;
+            LOG.info("Transaction {}: {}", action, uri);
+        } catch (IOException e) {
+            throw new RuntimeException(format("A problem occurred while attempting to %s transaction %s",
+                                              action, uri), e);
+        } finally {
+            if (succeeded || endOnFailure) {
+                committed = succeeded && COMMIT_ENDPOINT.equals(endpoint);
+                active = false;
+                keepAlive.cancel(false);
+                onEnd.accept(this);
+            }
+        }
+    }
+
+    private void run(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            LOG.warn("An action to run on commit of transaction {} failed: {}", uri, e.getMessage(), e);
+        }
+    }
+
+    private Request post(String endpoint) {
+        return new Request.Builder()
+            .url(txUrl + endpoint)
+            .post(RequestBody.create(new byte[0], null))
+            .build();
+    }
+
+    /**
+     * Replaces every occurrence of one byte sequence with another as the upstream source is read, holding back
+     * only as many bytes as could be the start of a match, so the body is never buffered in full.
+     */
+    private static final class RewritingSource implements Source {
+
+        private final BufferedSource upstream;
+
+        private final ByteString from;
+
+        private final ByteString to;
+
+        private final Buffer pending = new Buffer();
+
+        private final Buffer ready = new Buffer();
+
+        private boolean exhausted;
+
+        RewritingSource(BufferedSource upstream, ByteString from, ByteString to) {
+            this.upstream = upstream;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            while (ready.size() == 0) {
+                long match = pending.indexOf(from);
+                if (match >= 0) {
+                    ready.write(pending, match);
+                    pending.skip(from.size());
+                    ready.write(to);
+                } else if (exhausted) {
+                    if (pending.size() == 0) {
+                        return -1;
+                    }
+                    ready.writeAll(pending);
+                } else if (pending.size() >= from.size()) {
+                    ready.write(pending, pending.size() - from.size() + 1);
+                } else if (upstream.read(pending, 8192) == -1) {
+                    exhausted = true;
+                }
+            }
+            return ready.read(sink, Math.min(byteCount, ready.size()));
+        }
+
+        @Override
+        public Timeout timeout() {
+            return upstream.timeout();
+        }
+
+        @Override
+        public void close() throws IOException {
+            upstream.close();
+        }
+    }
+}
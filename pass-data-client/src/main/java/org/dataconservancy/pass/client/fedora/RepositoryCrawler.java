@@ -19,7 +19,12 @@ package org.dataconservancy.pass.client.fedora;
 import static java.util.Collections.emptyList;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -30,6 +35,12 @@ import java.util.regex.Pattern;
  * Given a URI of an LDP container, this class will visit all its children, their childrens children, etc up to a
  * provided depth and invoke given {@link Consumer}. It is designed to handle an arbitrary large number of resources.
  * </p>
+ * <p>
+ * By default the crawl runs on the calling thread. Given a parallelism greater than 1, containers are listed and
+ * resources visited on a work-stealing pool of that many threads, with separate limits on how many listings and how
+ * many visits happen at once. The visitor is then called concurrently, in no particular order, so must be
+ * thread-safe. The pool uses platform threads, as the client targets Java 11 and virtual threads need Java 21.
+ * </p>
  *
  * @author apb@jhu.edu
  */
@@ -40,6 +51,39 @@ public class RepositoryCrawler {
     // Does the resource URI have a path that is like /acls/, /.acl, etc?
     static final Pattern ACL_PATTERN = Pattern.compile(".+/\\.*acls*(?=/|$).*");
 
+    private final int parallelism;
+
+    private final int maxListings;
+
+    private final int maxVisits;
+
+    /**
+     * Create a crawler with the parallelism and limits configured in {@link FedoraConfig}, which by default crawls on
+     * the calling thread.
+     */
+    public RepositoryCrawler() {
+        this(FedoraConfig.getCrawlParallelism(), FedoraConfig.getCrawlMaxListings(),
+             FedoraConfig.getCrawlMaxVisits());
+    }
+
+    /**
+     * Create a crawler.
+     *
+     * @param parallelism number of threads to crawl with; 1 crawls on the calling thread.
+     * @param maxListings maximum number of containers listed at once. Listings share a pool of 5 connections to
+     *                    Fedora, or {@code http.maxConnections} if that system property is set, so a higher limit
+     *                    only queues more of them for a connection.
+     * @param maxVisits   maximum number of resources passed to the visitor at once.
+     */
+    public RepositoryCrawler(int parallelism, int maxListings, int maxVisits) {
+        if (parallelism < 1 || maxListings < 1 || maxVisits < 1) {
+            throw new IllegalArgumentException("Crawl parallelism and limits must be at least 1");
+        }
+        this.parallelism = parallelism;
+        this.maxListings = maxListings;
+        this.maxVisits = maxVisits;
+    }
+
     /**
      * Visit a container and its children.
      * <p>
@@ -74,7 +118,16 @@ public class RepositoryCrawler {
      */
     public int visit(final URI resource, final Consumer<URI> visitor, Predicate<State> ignore,
                      Predicate<State> skip) {
-        return _visit(resource, visitor, new State(0, null, resource), ignore, skip);
+        if (parallelism == 1) {
+            return _visit(resource, visitor, new State(0, null, resource), ignore, skip);
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new Crawl(new Limits(visitor, ignore, skip), new State(0, null, resource)));
+        } finally {
+            pool.shutdownNow();
+        }
     }
 
     private int _visit(final URI resource, final Consumer<URI> visitor, State state, Predicate<State> ignore,
@@ -113,6 +166,91 @@ public class RepositoryCrawler {
         return count;
     }
 
+    /**
+     * Settings shared by every task of a parallel crawl.
+     */
+    private class Limits {
+
+        final Consumer<URI> visitor;
+
+        final Predicate<State> ignore;
+
+        final Predicate<State> terminal;
+
+        final Semaphore listings = new Semaphore(maxListings);
+
+        final Semaphore visits = new Semaphore(maxVisits);
+
+        Limits(Consumer<URI> visitor, Predicate<State> ignore, Predicate<State> terminal) {
+            this.visitor = visitor;
+            this.ignore = ignore;
+            this.terminal = terminal;
+        }
+    }
+
+    /**
+     * Visits a resource and its children in a parallel crawl, returning the number visited. Children are forked as
+     * separate tasks, so that idle threads can steal them.
+     */
+    private class Crawl extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Limits limits;
+
+        private final transient State state;
+
+        Crawl(Limits limits, State state) {
+            this.limits = limits;
+            this.state = state;
+        }
+
+        @Override
+        protected Integer compute() {
+            int count = 0;
+
+            // Same decisions as _visit
+            Collection<URI> children = emptyList();
+            if (!limits.terminal.test(state)) {
+                acquire(limits.listings);
+                try {
+                    children = repo.getChildren(state.id);
+                } finally {
+                    limits.listings.release();
+                }
+            }
+
+            if (!limits.ignore.test(state)) {
+                acquire(limits.visits);
+                try {
+                    limits.visitor.accept(state.id);
+                } finally {
+                    limits.visits.release();
+                }
+                count++;
+            }
+
+            final List<Crawl> tasks = new ArrayList<>(children.size());
+            for (final URI child : children) {
+                tasks.add(new Crawl(limits, new State(state.depth + 1, state.id, child)));
+            }
+            for (final Crawl task : invokeAll(tasks)) {
+                count += task.join();
+            }
+
+            return count;
+        }
+
+        private void acquire(Semaphore semaphore) {
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while crawling " + state.id, e);
+            }
+        }
+    }
+
     /**
      * Represents repository crawling state.
      *
@@ -27,11 +27,14 @@ public class UpdateConflictException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
+    private final String currentVersionTag;
+
     /**
      * Default constructor
      */
     public UpdateConflictException() {
         super();
+        this.currentVersionTag = null;
     }
 
     /**
@@ -41,6 +44,18 @@ public class UpdateConflictException extends RuntimeException {
      */
     public UpdateConflictException(String s) {
         super(s);
+        this.currentVersionTag = null;
+    }
+
+    /**
+     * Constructor with message and the version tag currently in the repository.
+     *
+     * @param s                 message
+     * @param currentVersionTag the current version tag, or null if not known
+     */
+    public UpdateConflictException(String s, String currentVersionTag) {
+        super(s);
+        this.currentVersionTag = currentVersionTag;
     }
 
     /**
@@ -51,6 +66,7 @@ public class UpdateConflictException extends RuntimeException {
      */
     public UpdateConflictException(String s, Throwable throwable) {
         super(s, throwable);
+        this.currentVersionTag = null;
     }
 
     /**
@@ -60,5 +76,15 @@ public class UpdateConflictException extends RuntimeException {
      */
     public UpdateConflictException(Throwable throwable) {
         super(throwable);
+        this.currentVersionTag = null;
+    }
+
+    /**
+     * The version tag of the resource currently in the repository, if it was reported with the conflict
+     *
+     * @return the current version tag, or null if not known
+     */
+    public String getCurrentVersionTag() {
+        return currentVersionTag;
     }
 }
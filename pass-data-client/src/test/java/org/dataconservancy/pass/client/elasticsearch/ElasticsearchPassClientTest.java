@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.elasticsearch;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+
+import org.apache.http.pool.PoolStats;
+import org.dataconservancy.pass.model.Journal;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ElasticsearchPassClientTest {
+
+    private ElasticsearchPassClient indexClient;
+
+    @Before
+    public void setUp() {
+        // nothing listens on port 1, so searches fail without waiting
+        System.setProperty("pass.elasticsearch.url", "http://localhost:1");
+        System.setProperty("pass.elasticsearch.max.connections", "7");
+        System.setProperty("pass.elasticsearch.max.connections.per.route", "3");
+        indexClient = new ElasticsearchPassClient();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        indexClient.close();
+        System.clearProperty("pass.elasticsearch.url");
+        System.clearProperty("pass.elasticsearch.max.connections");
+        System.clearProperty("pass.elasticsearch.max.connections.per.route");
+    }
+
+    @Test
+    public void noPoolStatsBeforeFirstUseTest() {
+        assertNull(indexClient.getPoolStats());
+    }
+
+    @Test
+    public void poolStatsReflectConfiguredMaxTest() {
+        search();
+
+        PoolStats stats = indexClient.getPoolStats();
+        assertNotNull(stats);
+        assertEquals(7, stats.getMax());
+        assertEquals(0, stats.getLeased());
+    }
+
+    @Test
+    public void poolStatsAfterCloseTest() throws IOException {
+        search();
+        indexClient.close();
+
+        assertNotNull(indexClient.getPoolStats());
+    }
+
+    @Test
+    public void closeBeforeFirstUseTest() throws IOException {
+        indexClient.close();
+
+        assertNull(indexClient.getPoolStats());
+        assertClosed();
+    }
+
+    @Test
+    public void searchAfterCloseTest() throws IOException {
+        search();
+        indexClient.close();
+
+        assertClosed();
+    }
+
+    @Test
+    public void idIsReadAfterNestedObjectsTest() {
+        SearchResponse response = response(
+            "{\"@id\": \"journal:1\"}",
+            "{\"issns\": [\"1234-5678\", {\"@id\": \"nested:1\"}], \"publisher\": {\"@id\": \"nested:2\"}, " +
+            "\"@id\": \"journal:2\", \"journalName\": \"name\"}");
+
+        assertEquals(asList(URI.create("journal:1"), URI.create("journal:2")),
+                     new ArrayList<>(ElasticsearchPassClient.toUris(response)));
+    }
+
+    @Test
+    public void hitWithoutIdIsRejectedTest() {
+        SearchResponse response = response("{\"journalName\": \"name\", \"publisher\": {\"@id\": \"nested:1\"}}");
+
+        try {
+            ElasticsearchPassClient.toUris(response);
+            fail("Expected a hit without an ID to be rejected");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().contains("no ID"));
+        }
+    }
+
+    private static SearchResponse response(String... sources) {
+        SearchHit[] hits = new SearchHit[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            hits[i] = new SearchHit(i).sourceRef(new BytesArray(sources[i]));
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, hits.length, 1.0f));
+        return response;
+    }
+
+    /* Search the index, which is expected to fail as there is none, but builds the shared client */
+    private void search() {
+        try {
+            indexClient.findByAttribute(Journal.class, "issns", "1234-5678");
+            fail("Expected the search to fail, as there is no index");
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // expected
+        }
+    }
+
+    private void assertClosed() {
+        try {
+            indexClient.findByAttribute(Journal.class, "issns", "1234-5678");
+            fail("Expected the closed client to be rejected");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+}
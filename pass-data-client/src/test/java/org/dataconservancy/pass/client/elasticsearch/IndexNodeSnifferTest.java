@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.elasticsearch;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.junit.Test;
+
+public class IndexNodeSnifferTest {
+
+    private static final String NODES_INFO = "{\"_nodes\":{\"total\":3},\"cluster_name\":\"pass\",\"nodes\":{" +
+        "\"a\":{\"name\":\"data-1\",\"version\":\"6.7.2\",\"roles\":[\"data\",\"ingest\"]," +
+        "\"http\":{\"publish_address\":\"10.0.0.1:9200\"}}," +
+        "\"b\":{\"name\":\"master-1\",\"version\":\"6.7.2\",\"roles\":[\"master\"]," +
+        "\"http\":{\"publish_address\":\"es-master.example.org/10.0.0.2:9201\"}}," +
+        "\"c\":{\"name\":\"no-http\",\"version\":\"6.7.2\",\"roles\":[\"data\"]}}}";
+
+    @Test
+    public void parseNodesTest() throws Exception {
+        List<Node> nodes = IndexNodeSniffer.parseNodes(stream(NODES_INFO), "https");
+
+        assertEquals(2, nodes.size());
+
+        Node data = nodes.get(0);
+        assertEquals(new HttpHost("10.0.0.1", 9200, "https"), data.getHost());
+        assertEquals("data-1", data.getName());
+        assertEquals("6.7.2", data.getVersion());
+        assertTrue(data.getRoles().isData());
+        assertTrue(data.getRoles().isIngest());
+        assertFalse(data.getRoles().isMasterEligible());
+
+        Node master = nodes.get(1);
+        assertEquals(new HttpHost("es-master.example.org", 9201, "https"), master.getHost());
+        assertTrue(master.getRoles().isMasterEligible());
+        assertFalse(master.getRoles().isData());
+    }
+
+    @Test
+    public void parseNoNodesTest() throws Exception {
+        assertTrue(IndexNodeSniffer.parseNodes(stream("{\"nodes\":{}}"), "http").isEmpty());
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(UTF_8));
+    }
+}
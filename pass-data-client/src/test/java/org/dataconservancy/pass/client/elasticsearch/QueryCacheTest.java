@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.elasticsearch;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dataconservancy.pass.model.Funder;
+import org.dataconservancy.pass.model.Journal;
+import org.dataconservancy.pass.model.PassEntity;
+import org.junit.Test;
+
+public class QueryCacheTest {
+
+    private static final URI JOURNAL = URI.create("journal:1");
+
+    private static final URI FUNDER = URI.create("funder:1");
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final AtomicInteger searches = new AtomicInteger();
+
+    // journals are held for 100 nanos, other types for 10
+    private final QueryCache cache = new QueryCache(2, type -> type == Journal.class ? 100 : 10, now::get);
+
+    @Test
+    public void cachedResultIsCopiedTest() {
+        Set<URI> first = get(Journal.class, "issns", JOURNAL);
+        first.clear();
+        Set<URI> second = get(Journal.class, "issns", JOURNAL);
+
+        assertEquals(singleton(JOURNAL), second);
+        assertNotSame(first, second);
+        assertEquals(1, searches.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void differentKeysAreSearchedTest() {
+        get(Journal.class, "issns", JOURNAL);
+        cache.get(Journal.class, "issns", 2, 0, this::search).join();
+        cache.get(Journal.class, "issns", 1, 1, this::search).join();
+        get(Journal.class, "journalName", JOURNAL);
+
+        assertEquals(4, searches.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void ttlIsPerTypeTest() {
+        get(Journal.class, "issns", JOURNAL);
+        get(Funder.class, "localKey", FUNDER);
+        now.set(50);
+        get(Journal.class, "issns", JOURNAL);
+        get(Funder.class, "localKey", FUNDER);
+
+        assertEquals(3, searches.get());
+    }
+
+    @Test
+    public void invalidateByTypeTest() {
+        get(Journal.class, "issns", JOURNAL);
+        get(Funder.class, "localKey", FUNDER);
+        cache.invalidate(Journal.class);
+
+        assertEquals(1, cache.size());
+        get(Funder.class, "localKey", FUNDER);
+        assertEquals(2, searches.get());
+    }
+
+    @Test
+    public void invalidateByUriTest() {
+        get(Journal.class, "issns", JOURNAL);
+        get(Funder.class, "localKey", FUNDER);
+        cache.invalidate(FUNDER);
+
+        assertEquals(1, cache.size());
+        get(Journal.class, "issns", JOURNAL);
+        assertEquals(2, searches.get());
+    }
+
+    @Test
+    public void concurrentSearchesAreSharedTest() {
+        CompletableFuture<Set<URI>> search = new CompletableFuture<>();
+        CompletableFuture<Set<URI>> first = cache.get(Journal.class, "issns", 1, 0, () -> {
+            searches.incrementAndGet();
+            return search;
+        });
+        CompletableFuture<Set<URI>> second = cache.get(Journal.class, "issns", 1, 0, this::search);
+
+        search.complete(singleton(JOURNAL));
+        assertEquals(singleton(JOURNAL), first.join());
+        assertEquals(singleton(JOURNAL), second.join());
+        assertEquals(1, searches.get());
+    }
+
+    @Test
+    public void searchStartedBeforeInvalidationIsNotCachedTest() {
+        CompletableFuture<Set<URI>> search = new CompletableFuture<>();
+        cache.get(Journal.class, "issns", 1, 0, () -> search);
+        cache.invalidate(Journal.class);
+        search.complete(singleton(JOURNAL));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void searchJoinedAfterInvalidationIsRepeatedTest() {
+        CompletableFuture<Set<URI>> search = new CompletableFuture<>();
+        CompletableFuture<Set<URI>> first = cache.get(Journal.class, "issns", 1, 0, () -> search);
+        cache.invalidate(Journal.class);
+        CompletableFuture<Set<URI>> second = cache.get(Journal.class, "issns", 1, 0, this::search);
+        search.complete(singleton(FUNDER));
+
+        assertEquals(singleton(FUNDER), first.join());
+        assertEquals(singleton(JOURNAL), second.join());
+        assertEquals(1, searches.get());
+    }
+
+    @Test
+    public void pendingTypeIsNotCachedTest() {
+        // writes are pending for 50 nanos
+        QueryCache pending = new QueryCache(2, type -> 100, 50, now::get);
+        pending.invalidate(Journal.class);
+
+        now.set(49);
+        pending.get(Journal.class, "issns", 1, 0, this::search).join();
+        pending.get(Funder.class, "localKey", 1, 0, this::search).join();
+        assertEquals(1, pending.size());
+
+        now.set(51);
+        pending.get(Journal.class, "issns", 1, 0, this::search).join();
+        pending.get(Journal.class, "issns", 1, 0, this::search).join();
+        assertEquals(2, pending.size());
+        assertEquals(3, searches.get());
+    }
+
+    @Test
+    public void pendingDeleteIsNotCachedTest() {
+        QueryCache pending = new QueryCache(2, type -> 100, 50, now::get);
+        pending.invalidate(JOURNAL);
+
+        pending.get(Journal.class, "issns", 1, 0, this::search).join();
+        pending.get(Journal.class, "journalName", 1, 0, () -> {
+            searches.incrementAndGet();
+            return CompletableFuture.completedFuture(singleton(URI.create("journal:2")));
+        }).join();
+        assertEquals(1, pending.size());
+
+        now.set(51);
+        pending.get(Journal.class, "issns", 1, 0, this::search).join();
+        assertEquals(2, pending.size());
+    }
+
+    @Test
+    public void resultOrderIsKeptTest() {
+        Set<URI> sorted = new LinkedHashSet<>(asList(URI.create("journal:3"), URI.create("journal:1"),
+                                                     URI.create("journal:2")));
+        cache.get(Journal.class, "issns", 3, 0, () -> CompletableFuture.completedFuture(sorted)).join();
+
+        assertEquals(new ArrayList<>(sorted),
+                     new ArrayList<>(cache.get(Journal.class, "issns", 3, 0, this::search).join()));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void failedSearchIsNotCachedTest() {
+        RuntimeException failure = new RuntimeException("index unavailable");
+        CompletableFuture<Set<URI>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(failure);
+
+        try {
+            cache.get(Journal.class, "issns", 1, 0, () -> failed).join();
+            fail("Expected the search to fail");
+        } catch (RuntimeException e) {
+            assertSame(failure, e.getCause());
+        }
+        assertEquals(0, cache.size());
+    }
+
+    private Set<URI> get(Class<? extends PassEntity> type, String query, URI result) {
+        return cache.get(type, query, 1, 0, () -> {
+            searches.incrementAndGet();
+            return CompletableFuture.completedFuture(singleton(result));
+        }).join();
+    }
+
+    private CompletableFuture<Set<URI>> search() {
+        searches.incrementAndGet();
+        return CompletableFuture.completedFuture(singleton(JOURNAL));
+    }
+}
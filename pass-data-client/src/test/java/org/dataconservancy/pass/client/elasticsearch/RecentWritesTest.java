@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.elasticsearch;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dataconservancy.pass.model.Grant;
+import org.dataconservancy.pass.model.Journal;
+import org.dataconservancy.pass.model.Submission;
+import org.dataconservancy.pass.model.Submission.SubmissionStatus;
+import org.junit.Test;
+
+public class RecentWritesTest {
+
+    private static final URI JOURNAL = URI.create("journal:1");
+
+    private static final URI OTHER_JOURNAL = URI.create("journal:2");
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final RecentWrites writes = new RecentWrites(2, 100, now::get);
+
+    @Test
+    public void createdEntityIsFoundTest() {
+        writes.written(JOURNAL, journal("1234-5678"));
+
+        assertEquals(singleton(JOURNAL), writes.merge(Journal.class, singletonMap("issns", "1234-5678"), emptySet()));
+        assertEquals(singleton(JOURNAL), writes.merge(Journal.class, singletonMap("@id", JOURNAL), emptySet()));
+        assertEquals(emptySet(), writes.merge(Journal.class, singletonMap("issns", "9999-9999"), emptySet()));
+        assertEquals(emptySet(), writes.merge(Grant.class, singletonMap("@id", JOURNAL), emptySet()));
+    }
+
+    @Test
+    public void updatedEntityIsRemovedTest() {
+        writes.written(JOURNAL, journal("9999-9999"));
+
+        assertEquals(singleton(OTHER_JOURNAL),
+                     writes.merge(Journal.class, singletonMap("issns", "1234-5678"),
+                                  new HashSet<>(asList(JOURNAL, OTHER_JOURNAL))));
+    }
+
+    @Test
+    public void deletedEntityIsRemovedTest() {
+        writes.written(JOURNAL, journal("1234-5678"));
+        writes.deleted(JOURNAL);
+
+        assertEquals(emptySet(), writes.merge(Journal.class, singletonMap("issns", "1234-5678"),
+                                              singleton(JOURNAL)));
+    }
+
+    @Test
+    public void matchesAllAttributesTest() {
+        URI submissionUri = URI.create("submission:1");
+        URI grantUri = URI.create("grant:1");
+        Submission submission = new Submission();
+        submission.setGrants(asList(grantUri));
+        submission.setSubmissionStatus(SubmissionStatus.SUBMITTED);
+        writes.written(submissionUri, submission);
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("grants", grantUri);
+        attributes.put("submissionStatus", "submitted");
+        assertEquals(singleton(submissionUri), writes.merge(Submission.class, attributes, emptySet()));
+
+        attributes.put("publication", null);
+        assertEquals(singleton(submissionUri), writes.merge(Submission.class, attributes, emptySet()));
+
+        attributes.put("submissionStatus", "draft");
+        assertEquals(emptySet(), writes.merge(Submission.class, attributes, emptySet()));
+    }
+
+    @Test
+    public void writesExpireTest() {
+        writes.written(JOURNAL, journal("1234-5678"));
+        now.set(101);
+
+        assertEquals(0, writes.size());
+        assertEquals(emptySet(), writes.merge(Journal.class, singletonMap("issns", "1234-5678"), emptySet()));
+    }
+
+    @Test
+    public void oldestWriteIsForgottenTest() {
+        writes.written(JOURNAL, journal("1234-5678"));
+        writes.written(OTHER_JOURNAL, journal("1234-5678"));
+        writes.written(URI.create("journal:3"), journal("1234-5678"));
+
+        assertEquals(2, writes.size());
+        assertEquals(new HashSet<>(asList(OTHER_JOURNAL, URI.create("journal:3"))),
+                     writes.merge(Journal.class, singletonMap("issns", "1234-5678"), emptySet()));
+    }
+
+    @Test
+    public void writtenEntityIsSnapshotTest() {
+        Journal journal = journal("1234-5678");
+        writes.written(JOURNAL, journal);
+        journal.setIssns(asList("9999-9999"));
+
+        assertEquals(singleton(JOURNAL), writes.merge(Journal.class, singletonMap("issns", "1234-5678"), emptySet()));
+    }
+
+    @Test
+    public void preparedWriteIsRecordedWhenRunTest() {
+        Journal journal = journal("1234-5678");
+        Runnable record = writes.prepareWritten(JOURNAL, journal);
+        journal.setIssns(asList("9999-9999"));
+        now.set(50);
+
+        assertEquals(0, writes.size());
+        record.run();
+        assertEquals(singleton(JOURNAL), writes.merge(Journal.class, singletonMap("issns", "1234-5678"), emptySet()));
+
+        // the window starts when the write is recorded
+        now.set(150);
+        assertEquals(1, writes.size());
+    }
+
+    private static Journal journal(String issn) {
+        Journal journal = new Journal();
+        journal.setJournalName("name");
+        journal.setIssns(asList(issn));
+        return journal;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dataconservancy.pass.client.fedora;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dataconservancy.pass.model.Funder;
+import org.dataconservancy.pass.model.Journal;
+import org.junit.Test;
+
+public class EntityCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final EntityCache cache = new EntityCache(2, 100, 10, now::get);
+
+    @Test
+    public void putAndGetCopiesTest() {
+        Journal journal = journal("journal:1");
+        cache.put(journal.getId(), journal, "W/\"etag1\"");
+        journal.setJournalName("changed after caching");
+
+        EntityCache.Entry entry = cache.get(journal.getId(), Journal.class);
+        assertNotNull(entry);
+        assertEquals("W/\"etag1\"", entry.getEtag());
+
+        Journal cached = entry.getEntity(Journal.class);
+        assertEquals("name", cached.getJournalName());
+        cached.setJournalName("changed after reading");
+        assertEquals("name", entry.getEntity(Journal.class).getJournalName());
+        assertNotSame(entry.getEntity(Journal.class), entry.getEntity(Journal.class));
+    }
+
+    @Test
+    public void wrongClassIsDiscardedTest() {
+        Journal journal = journal("journal:1");
+        cache.put(journal.getId(), journal, "etag");
+
+        assertNull(cache.get(journal.getId(), Funder.class));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvictedTest() {
+        cache.put(URI.create("journal:1"), journal("journal:1"), "etag");
+        cache.put(URI.create("journal:2"), journal("journal:2"), "etag");
+        cache.get(URI.create("journal:1"), Journal.class);
+        cache.put(URI.create("journal:3"), journal("journal:3"), "etag");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertNotNull(cache.get(URI.create("journal:1"), Journal.class));
+        assertNull(cache.get(URI.create("journal:2"), Journal.class));
+        assertNotNull(cache.get(URI.create("journal:3"), Journal.class));
+    }
+
+    @Test
+    public void freshnessAndTtlTest() {
+        cache.put(URI.create("journal:1"), journal("journal:1"), "etag");
+
+        now.set(5);
+        EntityCache.Entry entry = cache.get(URI.create("journal:1"), Journal.class);
+        assertTrue(cache.isFresh(entry));
+
+        now.set(50);
+        assertFalse(cache.isFresh(entry));
+        cache.revalidated(entry);
+        assertTrue(cache.isFresh(entry));
+        assertEquals(1, cache.getRevalidations());
+
+        // revalidation does not extend the time-to-live
+        now.set(101);
+        assertNull(cache.get(URI.create("journal:1"), Journal.class));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void invalidateTest() {
+        cache.put(URI.create("journal:1"), journal("journal:1"), "etag");
+        cache.invalidate(URI.create("journal:1"));
+        assertNull(cache.get(URI.create("journal:1"), Journal.class));
+    }
+
+    @Test
+    public void noEtagIsNotCachedTest() {
+        cache.put(URI.create("journal:1"), journal("journal:1"), null);
+        assertEquals(0, cache.size());
+    }
+
+    private static Journal journal(String id) {
+        Journal journal = new Journal();
+        journal.setId(URI.create(id));
+        journal.setJournalName("name");
+        return journal;
+    }
+}
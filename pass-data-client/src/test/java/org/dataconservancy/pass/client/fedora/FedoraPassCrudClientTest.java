@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dataconservancy.pass.client.fedora;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.dataconservancy.pass.client.adapter.PassJsonAdapterBasic;
+import org.dataconservancy.pass.model.Journal;
+import org.fcrepo.client.FcrepoClient;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FedoraPassCrudClientTest {
+
+    private static final URI JOURNAL = URI.create("http://localhost:8080/fcrepo/rest/journals/1");
+
+    private final OkHttpClient okHttpClient = mock(OkHttpClient.class);
+
+    private final Call call = mock(Call.class);
+
+    private final AtomicLong now = new AtomicLong();
+
+    private FedoraPassCrudClient crudClient;
+
+    @Before
+    public void setUp() throws IOException {
+        when(okHttpClient.newCall(any())).thenReturn(call);
+        when(call.execute()).thenAnswer(i -> journalResponse());
+        crudClient = new FedoraPassCrudClient(mock(FcrepoClient.class), new PassJsonAdapterBasic(), okHttpClient)
+            .entityCache(new EntityCache(10, 100, 100, now::get));
+    }
+
+    @Test
+    public void sharingClientSharesEntityCacheTest() {
+        FedoraPassCrudClient sharing = crudClient.newSharingClient();
+
+        assertSame(crudClient.getEntityCache(), sharing.getEntityCache());
+        assertEquals("name", crudClient.readResource(JOURNAL, Journal.class).getJournalName());
+        assertEquals("name", sharing.readResource(JOURNAL, Journal.class).getJournalName());
+        verify(okHttpClient, times(1)).newCall(any());
+    }
+
+    @Test
+    public void sharingClientKeepsOwnSettingsTest() {
+        FedoraPassCrudClient sharing = crudClient.newSharingClient().entityCache(null);
+
+        sharing.readResource(JOURNAL, Journal.class);
+        sharing.readResource(JOURNAL, Journal.class);
+        crudClient.readResource(JOURNAL, Journal.class);
+        crudClient.readResource(JOURNAL, Journal.class);
+        verify(okHttpClient, times(3)).newCall(any());
+    }
+
+    private static Response journalResponse() {
+        String json = "{\"@id\": \"" + JOURNAL + "\", \"@type\": \"Journal\", \"journalName\": \"name\"}";
+        return new Response.Builder()
+            .request(new Request.Builder().url(JOURNAL.toString()).build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(200)
+            .message("")
+            .header("ETag", "W/\"etag1\"")
+            .body(ResponseBody.create(json, MediaType.get("application/ld+json")))
+            .build();
+    }
+}
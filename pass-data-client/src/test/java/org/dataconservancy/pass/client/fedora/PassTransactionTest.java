@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dataconservancy.pass.client.fedora;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PassTransactionTest {
+
+    private static final String BASE_URL = "http://localhost:8080/fcrepo/rest/";
+
+    private static final String TX_URL = BASE_URL + "tx:abc123/";
+
+    private static final MediaType TURTLE = MediaType.get("text/turtle; charset=utf-8");
+
+    private final OkHttpClient okHttpClient = mock(OkHttpClient.class);
+
+    private final Call call = mock(Call.class);
+
+    private PassTransaction tx;
+
+    private PassTransaction ended;
+
+    @Before
+    public void setUp() throws IOException {
+        when(okHttpClient.newCall(any())).thenReturn(call);
+        when(call.execute()).thenReturn(response(201, "").newBuilder().header("Location", TX_URL).build());
+        tx = PassTransaction.begin(okHttpClient, BASE_URL, 3600, t -> ended = t);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        when(call.execute()).thenReturn(response(204, ""));
+        tx.close();
+    }
+
+    @Test
+    public void rewritesBodyTest() throws IOException {
+        String body = "<" + TX_URL + "grants/1> <p> <" + TX_URL + "funders/1> .";
+
+        String rewritten = tx.fromTransaction(response(200, body)).body().string();
+
+        assertEquals("<" + BASE_URL + "grants/1> <p> <" + BASE_URL + "funders/1> .", rewritten);
+    }
+
+    @Test
+    public void rewritesAcrossReadBoundariesTest() throws IOException {
+        StringBuilder body = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            body.append("<").append(TX_URL).append("grants/").append(i).append(">\n");
+            expected.append("<").append(BASE_URL).append("grants/").append(i).append(">\n");
+        }
+
+        Response rewritten = tx.fromTransaction(response(200, body.toString()));
+
+        assertEquals(TURTLE, rewritten.body().contentType());
+        assertEquals(expected.toString(), rewritten.body().string());
+    }
+
+    @Test
+    public void partialMatchAtEndIsKeptTest() throws IOException {
+        String body = "text ending in " + TX_URL.substring(0, 20);
+
+        assertEquals(body, tx.fromTransaction(response(200, body)).body().string());
+    }
+
+    @Test
+    public void rewritesLocationTest() throws IOException {
+        Response response = response(201, "").newBuilder().header("Location", TX_URL + "grants/1").build();
+
+        assertEquals(BASE_URL + "grants/1", tx.fromTransaction(response).header("Location"));
+    }
+
+    @Test
+    public void commitEndsTransactionTest() throws IOException {
+        when(call.execute()).thenReturn(response(204, ""));
+
+        tx.commit();
+
+        assertFalse(tx.isActive());
+        assertEquals(tx, ended);
+    }
+
+    @Test
+    public void commitActionsRunOnCommitTest() throws IOException {
+        List<String> actions = new ArrayList<>();
+        tx.onCommit(() -> actions.add("first"));
+        tx.onCommit(() -> {
+            throw new RuntimeException("failed action");
+        });
+        tx.onCommit(() -> actions.add("second"));
+        assertTrue(actions.isEmpty());
+
+        when(call.execute()).thenReturn(response(204, ""));
+        tx.commit();
+        assertEquals(Arrays.asList("first", "second"), actions);
+
+        tx.onCommit(() -> actions.add("after commit"));
+        assertEquals(Arrays.asList("first", "second", "after commit"), actions);
+    }
+
+    @Test
+    public void commitActionsDoNotRunOnRollbackTest() throws IOException {
+        List<String> actions = new ArrayList<>();
+        tx.onCommit(() -> actions.add("commit"));
+
+        when(call.execute()).thenReturn(response(204, ""));
+        tx.rollback();
+        tx.onCommit(() -> actions.add("after rollback"));
+
+        assertTrue(actions.isEmpty());
+    }
+
+    @Test
+    public void failedCommitKeepsTransactionOpenTest() throws IOException {
+        when(call.execute()).thenReturn(response(500, "boom"));
+
+        try {
+            tx.commit();
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        assertTrue(tx.isActive());
+    }
+
+    private static Response response(int code, String body) {
+        return new Response.Builder()
+            .request(new Request.Builder().url(BASE_URL).build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("")
+            .body(ResponseBody.create(body, TURTLE))
+            .build();
+    }
+}
@@ -43,6 +43,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.dataconservancy.pass.client.fedora.RepositoryCrawler.State;
 import org.junit.Before;
@@ -239,6 +241,77 @@ public class RepositoryCrawlerTest {
         assertTrue(visited.containsAll(depth1ExceptAclsAndContainers));
     }
 
+    // Verify that a parallel crawl visits the same resources, and counts them the same, as a sequential one
+    @Test
+    public void parallelTest() {
+        final RepositoryCrawler parallel = new RepositoryCrawler(4, 2, 2);
+        parallel.repo = lister;
+
+        final Set<URI> visited = ConcurrentHashMap.newKeySet();
+        final Collection<URI> allResources = union(asList(root), l1_all, l2_all, l3_all);
+        assertEquals(allResources.size(), parallel.visit(root, visited::add, IGNORE_NONE, SKIP_NONE));
+        assertEquals(allResources, visited);
+
+        visited.clear();
+        final Collection<URI> depth1ExceptAclsAndContainers = union(l2_cows, l2_submissions);
+        assertEquals(depth1ExceptAclsAndContainers.size(), parallel.visit(root, visited::add, IGNORE_CONTAINERS,
+                                                                          depth(2).or(SKIP_ACLS)));
+        assertEquals(depth1ExceptAclsAndContainers, visited);
+    }
+
+    // Verify that a parallel crawl keeps to its limits on concurrent listings and visits
+    @Test
+    public void parallelLimitsTest() {
+        final AtomicInteger listing = new AtomicInteger();
+        final AtomicInteger maxListing = new AtomicInteger();
+        final AtomicInteger visiting = new AtomicInteger();
+        final AtomicInteger maxVisiting = new AtomicInteger();
+
+        final RepositoryCrawler parallel = new RepositoryCrawler(8, 2, 3);
+        parallel.repo = container -> {
+            maxListing.accumulateAndGet(listing.incrementAndGet(), Math::max);
+            pause();
+            listing.decrementAndGet();
+            return lister.getChildren(container);
+        };
+
+        final Collection<URI> allResources = union(asList(root), l1_all, l2_all, l3_all);
+        assertEquals(allResources.size(), parallel.visit(root, uri -> {
+            maxVisiting.accumulateAndGet(visiting.incrementAndGet(), Math::max);
+            pause();
+            visiting.decrementAndGet();
+        }, IGNORE_NONE, SKIP_NONE));
+
+        assertTrue(maxListing.get() <= 2);
+        assertTrue(maxVisiting.get() <= 3);
+    }
+
+    // Verify that a failure in the visitor ends a parallel crawl
+    @Test(expected = IllegalStateException.class)
+    public void parallelFailureTest() {
+        final RepositoryCrawler parallel = new RepositoryCrawler(4, 4, 4);
+        parallel.repo = lister;
+
+        parallel.visit(root, uri -> {
+            if (uri.equals(l3_submissions_1)) {
+                throw new IllegalStateException("visitor failed");
+            }
+        }, IGNORE_NONE, SKIP_NONE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidParallelismTest() {
+        new RepositoryCrawler(0, 1, 1);
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static URI randomUri(URI base) {
         return URI.create(endWithSlash(base.toString() + "/a/b/c/" + UUID.randomUUID().toString()));
     }
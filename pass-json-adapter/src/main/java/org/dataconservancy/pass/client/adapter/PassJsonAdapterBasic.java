@@ -17,20 +17,34 @@ package org.dataconservancy.pass.client.adapter;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
-import org.apache.commons.io.IOUtils;
 import org.dataconservancy.pass.client.PassJsonAdapter;
 import org.dataconservancy.pass.client.util.ConfigUtil;
 import org.dataconservancy.pass.model.PassEntity;
+import org.dataconservancy.pass.model.PassEntityType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * JSON Adapter converts a PassEntity object into JSON (with or without context) and back
+ * <p>
+ * The readers and writers used are immutable and built once for each PASS entity type, so one adapter may be shared
+ * by any number of threads. Entities passed in are not modified.
+ * </p>
  *
  * @author Karen Hanson
  */
@@ -42,63 +56,115 @@ public class PassJsonAdapterBasic implements PassJsonAdapter {
     private final static String DEFAULT_CONTEXT = "https://eclipse-pass.github.io/pass-data-model/src/main/resources" +
                                                   "/context-3.5.jsonld";
 
+    /**
+     * Reads JSON straight into the model, skipping the {@code @context}, which Fedora may send as an object rather
+     * than the string the model holds. Streams read from or written to are left open for the caller to close.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .addMixIn(PassEntity.class, IgnoreContextMixIn.class)
+        .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private static final ObjectReader READER = MAPPER.reader();
+
+    private static final ObjectWriter TREE_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+
+    private static final ObjectWriter COMPACT_TREE_WRITER = MAPPER.writer();
+
+    private static final Map<Class<?>, Binding> BINDINGS = new ConcurrentHashMap<>();
+
+    static {
+        // build the reader and writer for each type up front, rather than on the first request for it
+        String modelPackage = PassEntity.class.getPackage().getName();
+        for (PassEntityType type : PassEntityType.values()) {
+            try {
+                binding(Class.forName(modelPackage + "." + type.getName()));
+            } catch (ClassNotFoundException e) {
+                LOG.warn("No model class found for PASS entity type {}", type.getName());
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     public byte[] toJson(PassEntity passObj, boolean includePassContext) {
-        if (passObj == null) {
-            throw new IllegalArgumentException("passObject cannot be null");
+        Object json = forOutput(passObj, includePassContext);
+        try {
+            if (json instanceof PassEntity) {
+                return binding(json.getClass()).writer.writeValueAsBytes(json);
+            }
+            return TREE_WRITER.writeValueAsBytes(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not model convert to JSON", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The JSON is generated directly into the stream, without building it in memory first.
+     * </p>
+     */
+    @Override
+    public void writeJson(PassEntity passObj, boolean includePassContext, OutputStream out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("out cannot be null");
         }
-        if (includePassContext) {
-            //Assign pass context
-            LOG.debug("Converting {} to JSON with context", passObj.getClass().getSimpleName());
-            passObj.setContext(getPassJsonLdContext());
+        Object json = forOutput(passObj, includePassContext);
+        if (json instanceof PassEntity) {
+            binding(json.getClass()).compactWriter.writeValue(out, json);
         } else {
-            //scrub context if there is one
-            LOG.debug("Converting {} to JSON without context", passObj.getClass().getSimpleName());
-            passObj.setContext(null);
+            COMPACT_TREE_WRITER.writeValue(out, json);
         }
+    }
 
-        byte[] jsonld = null;
-
-        //convert to json
-        ObjectMapper objectMapper = new ObjectMapper();
-        try {
-            ObjectNode jsonObj = (ObjectNode) objectMapper.valueToTree(passObj);
+    /**
+     * Prepare an entity for output with the context requested, without modifying it.
+     *
+     * @return a copy of the entity, or a tree of it if it cannot be copied
+     */
+    private static Object forOutput(PassEntity passObj, boolean includePassContext) {
+        if (passObj == null) {
+            throw new IllegalArgumentException("passObject cannot be null");
+        }
+        LOG.debug("Converting {} to JSON {} context", passObj.getClass().getSimpleName(),
+                  includePassContext ? "with" : "without");
+        String context = includePassContext ? getPassJsonLdContext() : null;
 
+        PassEntity copy = binding(passObj.getClass()).copy(passObj);
+        if (copy != null) {
+            copy.setContext(context);
             // This is because new objects (without an ID) should have the null relative URI
-            if (jsonObj.get("@id") == null) {
-                jsonObj.set("@id", new TextNode(""));
+            if (copy.getId() == null) {
+                copy.setId(URI.create(""));
             }
-            jsonld = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(jsonObj);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Could not model convert to JSON", e);
+            return copy;
         }
 
-        return jsonld;
+        // no copy constructor, so adjust a tree of the entity instead
+        ObjectNode jsonObj = (ObjectNode) MAPPER.valueToTree(passObj);
+        jsonObj.remove("@context");
+        if (context != null) {
+            jsonObj.set("@context", new TextNode(context));
+        }
+        if (jsonObj.get("@id") == null) {
+            jsonObj.set("@id", new TextNode(""));
+        }
+        return jsonObj;
     }
 
     /**
      * {@inheritDoc}
      */
     public <T extends PassEntity> T toModel(byte[] json, Class<T> valueType) {
-        if (json.length == 0) {
-            throw new IllegalArgumentException("json cannot be empty");
+        if (json == null) {
+            throw new IllegalArgumentException("json cannot be null");
         }
-        if (valueType == null) {
-            throw new IllegalArgumentException("valueType cannot be empty");
-        }
-
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            ObjectNode parsed = (ObjectNode) objectMapper.readTree(json);
-            parsed.remove("@context");
-            LOG.debug("JSON converting to model {}", valueType.getSimpleName());
-
-            return objectMapper.treeToValue(parsed, valueType);
-
+            return toModel(READER.getFactory().createParser(json), valueType);
         } catch (IOException e) {
-            throw new RuntimeException("Could not map JSON to " + valueType.getSimpleName(), e);
+            throw new RuntimeException("Could not map JSON to " + modelName(valueType), e);
         }
     }
 
@@ -106,13 +172,37 @@ public class PassJsonAdapterBasic implements PassJsonAdapter {
      * {@inheritDoc}
      */
     public <T extends PassEntity> T toModel(InputStream json, Class<T> valueType) {
+        if (json == null) {
+            throw new IllegalArgumentException("json cannot be null");
+        }
         try {
-            return toModel(IOUtils.toByteArray(json), valueType);
+            return toModel(READER.getFactory().createParser(json), valueType);
         } catch (IOException e) {
-            throw new RuntimeException("Could not map JSON to " + valueType.getSimpleName(), e);
+            throw new RuntimeException("Could not map JSON to " + modelName(valueType), e);
+        }
+    }
+
+    private static <T extends PassEntity> T toModel(JsonParser parser, Class<T> valueType) throws IOException {
+        try (JsonParser json = parser) {
+            if (json.nextToken() == null) {
+                throw new IllegalArgumentException("json cannot be empty");
+            }
+            if (valueType == null) {
+                throw new IllegalArgumentException("valueType cannot be empty");
+            }
+            LOG.debug("JSON converting to model {}", valueType.getSimpleName());
+            return binding(valueType).reader.readValue(json);
         }
     }
 
+    private static String modelName(Class<?> valueType) {
+        return valueType == null ? "model" : valueType.getSimpleName();
+    }
+
+    private static Binding binding(Class<?> modelClass) {
+        return BINDINGS.computeIfAbsent(modelClass, Binding::new);
+    }
+
     /**
      * Retrieve the context path to add to the JSON for conversion to JSON-LD
      *
@@ -124,4 +214,54 @@ public class PassJsonAdapterBasic implements PassJsonAdapter {
         return context;
     }
 
+    /**
+     * Reader, writer and copy constructor for a model class
+     */
+    private static class Binding {
+
+        private final ObjectReader reader;
+
+        private final ObjectWriter writer;
+
+        private final ObjectWriter compactWriter;
+
+        private final Constructor<?> copyConstructor;
+
+        private Binding(Class<?> modelClass) {
+            this.reader = MAPPER.readerFor(modelClass);
+            this.compactWriter = MAPPER.writerFor(modelClass);
+            this.writer = compactWriter.withDefaultPrettyPrinter();
+            Constructor<?> constructor;
+            try {
+                constructor = modelClass.getConstructor(modelClass);
+            } catch (NoSuchMethodException e) {
+                constructor = null;
+            }
+            this.copyConstructor = constructor;
+        }
+
+        /**
+         * Copy an entity, so it can be adjusted for output without changing the caller's entity
+         *
+         * @return the copy, or null if the entity cannot be copied
+         */
+        private PassEntity copy(PassEntity entity) {
+            if (copyConstructor == null) {
+                return null;
+            }
+            try {
+                return (PassEntity) copyConstructor.newInstance(entity);
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Ignores {@code @context} when reading, in addition to the unknown properties PassEntity already ignores
+     */
+    @JsonIgnoreProperties(value = "@context", allowGetters = true, ignoreUnknown = true)
+    private abstract static class IgnoreContextMixIn {
+    }
+
 }
@@ -16,10 +16,15 @@
 package org.dataconservancy.pass.client.adapter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.dataconservancy.pass.client.PassJsonAdapter;
 import org.dataconservancy.pass.model.Deposit;
@@ -68,6 +73,31 @@ public class JsonAdapterTests {
 
     }
 
+    /**
+     * Verify that an expanded JSON-LD context, which cannot be held by the model, is skipped when reading
+     */
+    @Test
+    public void testJsonWithContextObjectToModel() {
+        String json = "{\"@context\": {\"@vocab\": \"http://oapass.org/ns/pass#\", \"submission\": {\"@type\": " +
+                      "\"@id\"}}, \"@id\": \"" + TestValues.DEPOSIT_ID_1 + "\", \"@type\": \"Deposit\", " +
+                      "\"depositStatus\": \"" + TestValues.DEPOSIT_STATUS + "\"}";
+
+        PassJsonAdapter adapter = new PassJsonAdapterBasic();
+        Deposit deposit = adapter.toModel(json.getBytes(), Deposit.class);
+
+        assertEquals(TestValues.DEPOSIT_ID_1, deposit.getId().toString());
+        assertEquals(TestValues.DEPOSIT_STATUS, deposit.getDepositStatus().toString());
+        assertNull(deposit.getContext());
+    }
+
+    /**
+     * Verify that empty JSON is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyJsonToModel() {
+        new PassJsonAdapterBasic().toModel(new ByteArrayInputStream(new byte[0]), Deposit.class);
+    }
+
     /**
      * Verify that we can convert a model object to JSON with JSONLD context
      *
@@ -142,6 +172,52 @@ public class JsonAdapterTests {
         assertEquals(root.getString("repositoryCopy"), TestValues.REPOSITORYCOPY_ID_1);
     }
 
+    /**
+     * Verify that converting to JSON leaves the entity unchanged, and that a new entity gets the null relative URI
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testToJsonDoesNotModifyEntity() throws Exception {
+        Deposit deposit = createDeposit();
+        deposit.setId(null);
+        deposit.setContext("http://example.org/other-context.jsonld");
+        Deposit original = new Deposit(deposit);
+
+        PassJsonAdapter adapter = new PassJsonAdapterBasic();
+        JSONObject withContext = new JSONObject(new String(adapter.toJson(deposit, true)));
+        JSONObject withoutContext = new JSONObject(new String(adapter.toJson(deposit, false)));
+
+        assertEquals(original, deposit);
+        assertEquals("", withContext.getString("@id"));
+        assertEquals(CONTEXT, withContext.getString("@context"));
+        assertEquals(false, withoutContext.has("@context"));
+    }
+
+    /**
+     * Verify that JSON written to a stream is compact, matches toJson, and leaves the stream open
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testWriteJsonToStream() throws Exception {
+        PassJsonAdapter adapter = new PassJsonAdapterBasic();
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        adapter.writeJson(createDeposit(), true, out);
+
+        String jsonDeposit = out.toString("UTF-8");
+        assertFalse(jsonDeposit.contains("\n"));
+        assertFalse(closed.get());
+        assertEquals(new JSONObject(new String(adapter.toJson(createDeposit(), true))).toMap(),
+                     new JSONObject(jsonDeposit).toMap());
+    }
+
     private Deposit createDeposit() throws Exception {
         Deposit deposit = new Deposit();
         deposit.setId(new URI(TestValues.DEPOSIT_ID_1));
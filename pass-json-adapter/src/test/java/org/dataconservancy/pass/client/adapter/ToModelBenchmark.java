@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Johns Hopkins University
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dataconservancy.pass.client.adapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.io.IOUtils;
+import org.dataconservancy.pass.model.Submission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares reading a Submission, as Fedora returns it, with {@link PassJsonAdapterBasic#toModel(InputStream, Class)}
+ * against the previous implementation, which copied the stream to a byte array and parsed it into a tree before
+ * mapping it to the model.
+ * <p>
+ * Not run as part of the build. Run {@link #main(String[])} from the test classpath, e.g. in an IDE.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ToModelBenchmark {
+
+    private final PassJsonAdapterBasic adapter = new PassJsonAdapterBasic();
+
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        StringBuilder grants = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            grants.append(i == 0 ? "" : ", ").append("\"https://example.org/fedora/grants/").append(i).append("\"");
+        }
+        json = ("{\"@context\": {\"@vocab\": \"http://oapass.org/ns/pass#\", \"grants\": {\"@type\": \"@id\"}}, " +
+                "\"@id\": \"https://example.org/fedora/submissions/1\", \"@type\": \"Submission\", " +
+                "\"aggregatedDepositStatus\": \"in-progress\", \"metadata\": \"{\\\"title\\\": \\\"A title\\\"}\", " +
+                "\"source\": \"pass\", \"submitted\": true, \"submittedDate\": \"2018-01-01T00:00:00.000Z\", " +
+                "\"submissionStatus\": \"submitted\", \"publication\": \"https://example.org/fedora/publications/1\", " +
+                "\"submitter\": \"https://example.org/fedora/users/1\", \"grants\": [" + grants + "]}").getBytes();
+    }
+
+    @Benchmark
+    public Submission streaming() {
+        return adapter.toModel(new ByteArrayInputStream(json), Submission.class);
+    }
+
+    @Benchmark
+    public Submission tree() throws IOException {
+        byte[] bytes = IOUtils.toByteArray(new ByteArrayInputStream(json));
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode parsed = (ObjectNode) objectMapper.readTree(bytes);
+        parsed.remove("@context");
+        return objectMapper.treeToValue(parsed, Submission.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ToModelBenchmark.class.getSimpleName()).build()).run();
+    }
+}
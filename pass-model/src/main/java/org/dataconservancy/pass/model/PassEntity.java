@@ -57,6 +57,13 @@ public abstract class PassEntity {
     @JsonProperty("@context")
     protected String context = null;
 
+    /**
+     * True if the entity was read from the index rather than the repository, so may be out of date. Should not be part
+     * of the JSON output
+     */
+    @JsonIgnore
+    protected boolean indexSourced = false;
+
     /**
      * PassEntity constructor
      */
@@ -76,6 +83,7 @@ public abstract class PassEntity {
         this.id = passEntity.id;
         this.versionTag = passEntity.versionTag;
         this.context = passEntity.context;
+        this.indexSourced = passEntity.indexSourced;
     }
 
     /**
@@ -126,6 +134,23 @@ public abstract class PassEntity {
         this.versionTag = versionTag;
     }
 
+    /**
+     * Whether the entity was read from the index rather than the repository. Such an entity may lag behind the
+     * repository and has no version tag, so it cannot be used to update the repository.
+     *
+     * @return true if the entity was read from the index
+     */
+    public boolean isIndexSourced() {
+        return indexSourced;
+    }
+
+    /**
+     * @param indexSourced true if the entity was read from the index
+     */
+    public void setIndexSourced(boolean indexSourced) {
+        this.indexSourced = indexSourced;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
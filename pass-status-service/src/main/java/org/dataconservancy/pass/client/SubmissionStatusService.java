@@ -259,10 +259,13 @@ public class SubmissionStatusService {
         if (links == null || entityType == null || modelClass == null) {
             return new ArrayList<T>();
         }
-        return links.stream()
-                    .filter(link -> link.toString().contains(entityType.getPlural()))
-                    .map(res -> client.readResource(res, modelClass))
-                    .collect(Collectors.toList());
+        List<URI> connected = links.stream()
+                                   .filter(link -> link.toString().contains(entityType.getPlural()))
+                                   .collect(Collectors.toList());
+        if (connected.isEmpty()) {
+            return new ArrayList<T>();
+        }
+        return new ArrayList<T>(client.readResources(connected, modelClass).values());
     }
 
 }
@@ -1,6 +1,7 @@
 package org.dataconservancy.pass.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,6 +11,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -70,20 +72,29 @@ public class SubmissionStatusServiceTest extends SubmissionStatusTestBase {
         service = new SubmissionStatusService(client);
 
         when(client.getIncoming(Mockito.any())).thenReturn(submissionIncoming).thenReturn(publicationsIncoming);
-        ;
-        when(client.readResource(Mockito.any(), eq(Deposit.class))).thenReturn(deposit(DepositStatus.ACCEPTED, repo1Id))
-                                                                   .thenReturn(
-                                                                       deposit(DepositStatus.ACCEPTED, repo2Id));
-        when(client.readResource(Mockito.any(), eq(RepositoryCopy.class))).thenReturn(
-            repoCopy(CopyStatus.ACCEPTED, repo1Id)).thenReturn(repoCopy(CopyStatus.ACCEPTED, repo2Id));
+
+        Map<URI, Deposit> deposits = new LinkedHashMap<URI, Deposit>();
+        deposits.put(deposit1Id, deposit(DepositStatus.ACCEPTED, repo1Id));
+        deposits.put(deposit2Id, deposit(DepositStatus.ACCEPTED, repo2Id));
+        when(client.readResources(Mockito.any(), eq(Deposit.class))).thenReturn(deposits);
+
+        Map<URI, RepositoryCopy> repoCopies = new LinkedHashMap<URI, RepositoryCopy>();
+        repoCopies.put(repoCopy1Id, repoCopy(CopyStatus.ACCEPTED, repo1Id));
+        repoCopies.put(repoCopy2Id, repoCopy(CopyStatus.ACCEPTED, repo2Id));
+        when(client.readResources(Mockito.any(), eq(RepositoryCopy.class))).thenReturn(repoCopies);
 
         SubmissionStatus newStatus = service.calculateSubmissionStatus(submission);
         assertEquals(SubmissionStatus.SUBMITTED, newStatus);
 
         verify(client, Mockito.times(2)).getIncoming(Mockito.any());
-        verify(client, Mockito.times(2)).readResource(Mockito.any(), eq(Deposit.class));
-        verify(client, Mockito.times(2)).readResource(Mockito.any(), eq(RepositoryCopy.class));
-        verify(client, Mockito.times(0)).readResource(Mockito.any(), eq(SubmissionEvent.class));
+        verify(client, Mockito.times(1)).readResources(argThat(uris -> uris.size() == 2 &&
+                                                                       uris.containsAll(deposits.keySet())),
+                                                       eq(Deposit.class));
+        verify(client, Mockito.times(1)).readResources(argThat(uris -> uris.size() == 2 &&
+                                                                       uris.containsAll(repoCopies.keySet())),
+                                                       eq(RepositoryCopy.class));
+        verify(client, Mockito.times(0)).readResources(Mockito.any(), eq(SubmissionEvent.class));
+        verify(client, Mockito.times(0)).readResource(Mockito.any(), Mockito.any());
 
     }
 
@@ -111,17 +122,24 @@ public class SubmissionStatusServiceTest extends SubmissionStatusTestBase {
         service = new SubmissionStatusService(client);
 
         when(client.getIncoming(Mockito.any())).thenReturn(submissionIncoming);
-        when(client.readResource(Mockito.any(), eq(SubmissionEvent.class)))
-            .thenReturn(submissionEvent(new DateTime(2018, 2, 1, 12, 1, 0, 0), EventType.APPROVAL_REQUESTED))
-            .thenReturn(submissionEvent(new DateTime(2018, 2, 1, 12, 2, 0, 0), EventType.CHANGES_REQUESTED));
+
+        Map<URI, SubmissionEvent> submissionEvents = new LinkedHashMap<URI, SubmissionEvent>();
+        submissionEvents.put(subEvent1Id, submissionEvent(new DateTime(2018, 2, 1, 12, 1, 0, 0),
+                                                          EventType.APPROVAL_REQUESTED));
+        submissionEvents.put(subEvent2Id, submissionEvent(new DateTime(2018, 2, 1, 12, 2, 0, 0),
+                                                          EventType.CHANGES_REQUESTED));
+        when(client.readResources(Mockito.any(), eq(SubmissionEvent.class))).thenReturn(submissionEvents);
 
         SubmissionStatus newStatus = service.calculateSubmissionStatus(submission);
         assertEquals(SubmissionStatus.CHANGES_REQUESTED, newStatus);
 
         verify(client, Mockito.times(1)).getIncoming(Mockito.any());
-        verify(client, Mockito.times(2)).readResource(Mockito.any(), eq(SubmissionEvent.class));
-        verify(client, Mockito.times(0)).readResource(Mockito.any(), eq(Deposit.class));
-        verify(client, Mockito.times(0)).readResource(Mockito.any(), eq(RepositoryCopy.class));
+        verify(client, Mockito.times(1)).readResources(argThat(uris -> uris.size() == 2 &&
+                                                                       uris.containsAll(submissionEvents.keySet())),
+                                                       eq(SubmissionEvent.class));
+        verify(client, Mockito.times(0)).readResources(Mockito.any(), eq(Deposit.class));
+        verify(client, Mockito.times(0)).readResources(Mockito.any(), eq(RepositoryCopy.class));
+        verify(client, Mockito.times(0)).readResource(Mockito.any(), Mockito.any());
 
     }
 